@@ -0,0 +1,126 @@
+package de.rene_majewski.logger.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import de.rene_majewski.logger.Logger;
+import de.rene_majewski.logger.selection.DebugSelection;
+import de.rene_majewski.logger.selection.InformationSelection;
+
+/**
+ * Measures the throughput of the logger when several threads log at the
+ * same time.
+ *
+ * {@link #main(String[])} runs the benchmarks with 1, 4, 16 and 64 threads.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+  /**
+   * Number of threads with which the benchmarks are run.
+   */
+  private static final int[] THREADS = {1, 4, 16, 64};
+
+  /**
+   * Appenders that are used.
+   */
+  @Param({"none", "txt"})
+  public String appenders;
+
+  /**
+   * Should the messages be written asynchronously?
+   */
+  @Param({"false", "true"})
+  public boolean async;
+
+  /**
+   * The logger.
+   */
+  private Logger logger;
+
+  /**
+   * Creates the logger.
+   *
+   * @throws Exception If the logger could not be created.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    logger = LoggerSetup.create(appenders, async, "batched");
+  }
+
+  /**
+   * Shuts the logger down.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Logger.shutdown();
+  }
+
+  /**
+   * Returns the instance of the logger.
+   *
+   * @return The instance of the logger.
+   */
+  @Benchmark
+  public Logger getInstance() {
+    return Logger.getInstance();
+  }
+
+  /**
+   * A debug message, which is disabled.
+   */
+  @Benchmark
+  public void debugDisabled() {
+    logger.debug(this, DebugSelection.DEBUG_SQL_EXEC, (Object) "SELECT 1");
+  }
+
+  /**
+   * An info message with a catalog ID and a parameter.
+   */
+  @Benchmark
+  public void infoEnabled() {
+    logger.info(this, InformationSelection.AP_INFO_VERSION, "1.0");
+  }
+
+  /**
+   * Runs the benchmarks with 1, 4, 16 and 64 threads.
+   *
+   * @param args Not used.
+   *
+   * @throws RunnerException If a benchmark failed.
+   */
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : THREADS) {
+      Options options = new OptionsBuilder()
+        .include(ContentionBenchmark.class.getSimpleName())
+        .threads(threads)
+        .build();
+      new Runner(options).run();
+    }
+  }
+}
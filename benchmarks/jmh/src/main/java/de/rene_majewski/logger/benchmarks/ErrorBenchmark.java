@@ -0,0 +1,100 @@
+package de.rene_majewski.logger.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rene_majewski.logger.Logger;
+
+/**
+ * Measures the cost of logging an exception with a deep stack.
+ *
+ * The exception is created once, so only the logging is measured.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorBenchmark {
+  /**
+   * Number of frames of the stack of the exception.
+   */
+  @Param({"10", "100", "1000"})
+  public int stackDepth;
+
+  /**
+   * Appenders that are used.
+   */
+  @Param({"txt", "txt+html"})
+  public String appenders;
+
+  /**
+   * The logger.
+   */
+  private Logger logger;
+
+  /**
+   * The exception that is logged.
+   */
+  private Exception exception;
+
+  /**
+   * Creates the logger and the exception.
+   *
+   * @throws Exception If the logger could not be created.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    logger = LoggerSetup.create(appenders, false, "batched");
+    exception = deep(stackDepth);
+  }
+
+  /**
+   * Shuts the logger down.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Logger.shutdown();
+  }
+
+  /**
+   * Creates an exception with the given number of frames.
+   *
+   * @param depth Number of frames that are added.
+   *
+   * @return The created exception.
+   */
+  private static Exception deep(int depth) {
+    if (depth <= 0) {
+      return new IllegalStateException("Benchmark",
+                                       new IllegalArgumentException("Cause"));
+    }
+    return deep(depth - 1);
+  }
+
+  /**
+   * An error with an exception.
+   */
+  @Benchmark
+  public void errorDeepStack() {
+    logger.error(this, exception);
+  }
+}
@@ -0,0 +1,121 @@
+package de.rene_majewski.logger.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rene_majewski.logger.Logger;
+import de.rene_majewski.logger.selection.DebugSelection;
+import de.rene_majewski.logger.selection.InformationSelection;
+
+/**
+ * Measures the cost of the logging methods for each combination of
+ * appenders.
+ *
+ * Run with {@code -prof gc} to get the allocations per operation and with
+ * {@code -t N} to run with several threads (see
+ * {@link ContentionBenchmark}).
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+  /**
+   * Appenders that are used.
+   */
+  @Param({"none", "stdout", "txt", "html", "txt+html", "stdout+txt+html"})
+  public String appenders;
+
+  /**
+   * Should the messages be written asynchronously?
+   */
+  @Param({"false", "true"})
+  public boolean async;
+
+  /**
+   * The logger.
+   */
+  private Logger logger;
+
+  /**
+   * Value that is passed to the messages.
+   */
+  private int counter;
+
+  /**
+   * Creates the logger.
+   *
+   * @throws Exception If the logger could not be created.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    logger = LoggerSetup.create(appenders, async, "batched");
+  }
+
+  /**
+   * Shuts the logger down.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Logger.shutdown();
+  }
+
+  /**
+   * A debug message, which is disabled.
+   */
+  @Benchmark
+  public void debugDisabled() {
+    logger.debug(this, DebugSelection.DEBUG_SQL_EXEC, counter++);
+  }
+
+  /**
+   * A debug message with a typed key, which is disabled.
+   */
+  @Benchmark
+  public void debugDisabledKey() {
+    logger.log(this, DebugSelection.KEY_DEBUG_SQL_EXEC, counter++);
+  }
+
+  /**
+   * An info message with a catalog ID and a parameter.
+   */
+  @Benchmark
+  public void infoEnabled() {
+    logger.info(this, InformationSelection.AP_INFO_VERSION, counter++);
+  }
+
+  /**
+   * An info message with a typed key and a parameter.
+   */
+  @Benchmark
+  public void infoEnabledKey() {
+    logger.log(this, InformationSelection.KEY_AP_INFO_VERSION, counter++);
+  }
+
+  /**
+   * An info message without catalog.
+   */
+  @Benchmark
+  public void infoPlain() {
+    logger.info(this, "A message without catalog");
+  }
+}
@@ -0,0 +1,137 @@
+package de.rene_majewski.logger.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.FileAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+
+import de.rene_majewski.logger.Logger;
+import de.rene_majewski.logger.appender.MappedFileAppender;
+import de.rene_majewski.logger.appender.QueueFullPolicy;
+
+/**
+ * Configures the logger for a benchmark.
+ *
+ * The logger is a singleton, so it can only be configured once per JVM. JMH
+ * runs each combination of parameters in its own fork, so each combination
+ * gets its own logger.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+final class LoggerSetup {
+  /**
+   * Directory of the log files.
+   */
+  private static Path dir;
+
+  /**
+   * The class has only static methods.
+   */
+  private LoggerSetup() {
+  }
+
+  /**
+   * Configures and creates the logger.
+   *
+   * All appenders write messages from level INFO, so DEBUG messages are
+   * disabled.
+   *
+   * @param appenders Appenders separated by {@code +}: {@code stdout},
+   * {@code txt} and {@code html}. {@code none} uses no appender.
+   *
+   * @param async Should the messages be written asynchronously?
+   *
+   * @param textMode How the text file is written: {@code batched} (the
+   * default of the logger), {@code file} (the file appender of log4j, only
+   * without {@code async}), {@code rolling} or {@code mmap}.
+   *
+   * @return The created logger.
+   *
+   * @throws IOException If the directory of the log files could not be
+   * created.
+   */
+  static Logger create(String appenders, boolean async, String textMode) throws IOException {
+    configure(appenders, async, textMode);
+    Logger logger = Logger.getInstance();
+    if ("file".equals(textMode)) {
+      if (async) {
+        throw new IllegalArgumentException("The file appender of log4j is only supported without async");
+      }
+      useLog4jFile();
+    }
+    return logger;
+  }
+
+  /**
+   * Replaces the text file of the logger by the file appender of log4j with
+   * the same layout, which writes each message at once.
+   */
+  private static void useLog4jFile() {
+    LoggerContext context = (LoggerContext) LogManager.getContext(false);
+    Configuration config = context.getConfiguration();
+    LoggerConfig root = config.getRootLogger();
+
+    Appender batched = config.getAppender("fileText");
+    if (batched == null) {
+      return;
+    }
+    String fileName = Paths.get(dir.toString(), "production-log4j.txt").toString();
+
+    FileAppender file = FileAppender.newBuilder()
+      .setName("fileText")
+      .withFileName(fileName)
+      .withAppend(false)
+      .setLayout(batched.getLayout())
+      .setConfiguration(config)
+      .build();
+    file.start();
+
+    root.removeAppender("fileText");
+    batched.stop();
+    config.getAppenders().remove("fileText");
+    config.addAppender(file);
+    root.addAppender(file, Level.INFO, null);
+    context.updateLoggers();
+  }
+
+  /**
+   * Configures the logger without creating it.
+   *
+   * @param appenders Appenders separated by {@code +}: {@code stdout},
+   * {@code txt} and {@code html}. {@code none} uses no appender.
+   *
+   * @param async Should the messages be written asynchronously?
+   *
+   * @param textMode How the text file is written: {@code batched} (the
+   * default of the logger), {@code file} (the file appender of log4j, only
+   * without {@code async}), {@code rolling} or {@code mmap}.
+   *
+   * @throws IOException If the directory of the log files could not be
+   * created.
+   */
+  static void configure(String appenders, boolean async, String textMode) throws IOException {
+    List<String> list = Arrays.asList(appenders.split("\\+"));
+    dir = Files.createTempDirectory("logger-benchmark");
+
+    Logger.setLogPath(dir.toString());
+    Logger.setMessagesPath("");
+    Logger.setAsyncConfiguration(async, 4096, QueueFullPolicy.BLOCK, Level.INFO);
+    Logger.setRollingConfiguration("rolling".equals(textMode), "100 MB", false, 3, false);
+    Logger.setMemoryMappedConfiguration("mmap".equals(textMode), MappedFileAppender.DEFAULT_REGION_LENGTH, 1000);
+    Logger.setConfiguration(Level.DEBUG, list.contains("stdout"), Level.INFO,
+                            list.contains("txt"), Level.INFO,
+                            list.contains("html"), Level.INFO, "production");
+  }
+}
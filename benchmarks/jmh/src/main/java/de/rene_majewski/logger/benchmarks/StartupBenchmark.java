@@ -0,0 +1,80 @@
+package de.rene_majewski.logger.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rene_majewski.logger.Logger;
+
+/**
+ * Measures the time from the first {@link Logger#getInstance()} until the
+ * first message is written.
+ *
+ * The logger can only be created once per JVM, so each measurement runs in
+ * a new fork without warmup.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+  /**
+   * Appenders that are used.
+   */
+  @Param({"txt", "txt+html"})
+  public String appenders;
+
+  /**
+   * Should the messages be written asynchronously?
+   */
+  @Param({"false", "true"})
+  public boolean async;
+
+  /**
+   * Configures the logger without creating it.
+   *
+   * @throws Exception If the logger could not be configured.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    LoggerSetup.configure(appenders, async, "batched");
+  }
+
+  /**
+   * Shuts the logger down.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Logger.shutdown();
+  }
+
+  /**
+   * Creates the logger and writes the first message.
+   *
+   * @return The created logger.
+   */
+  @Benchmark
+  public Logger startup() {
+    Logger logger = Logger.getInstance();
+    logger.info(this, "First message");
+    return logger;
+  }
+}
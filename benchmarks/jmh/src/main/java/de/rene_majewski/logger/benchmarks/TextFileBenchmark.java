@@ -0,0 +1,140 @@
+package de.rene_majewski.logger.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rene_majewski.logger.Logger;
+
+/**
+ * Compares the modes of the text file.
+ *
+ * {@code file} is the file appender of log4j, which writes each message at
+ * once, as baseline. {@code batched} is the default of the logger.
+ *
+ * The throughput mode reports the written bytes per second as counter
+ * {@code bytes}, the sample mode reports the percentiles (e.g. p99) of a
+ * single message.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextFileBenchmark {
+  /**
+   * How the text file is written.
+   */
+  @Param({"file", "batched", "rolling", "mmap"})
+  public String mode;
+
+  /**
+   * Length of the message in characters.
+   */
+  @Param({"64", "1024"})
+  public int length;
+
+  /**
+   * The logger.
+   */
+  private Logger logger;
+
+  /**
+   * The message that is written.
+   */
+  private String message;
+
+  /**
+   * Counts the written bytes of each thread.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Bytes {
+    /**
+     * Number of bytes that have been written into the file.
+     */
+    public long bytes;
+
+    /**
+     * Number of bytes of one encoded message.
+     */
+    private int length;
+
+    /**
+     * Determines the length of an encoded message of this thread with the
+     * layout of the text file.
+     *
+     * @param benchmark The benchmark, whose logger must be created before.
+     */
+    @Setup(Level.Trial)
+    public void setUp(TextFileBenchmark benchmark) {
+      Appender file = ((LoggerContext) LogManager.getContext(false)).getConfiguration().getAppender("fileText");
+      LogEvent event = Log4jLogEvent.newBuilder()
+        .setLoggerName(TextFileBenchmark.class.getName())
+        .setLevel(org.apache.logging.log4j.Level.INFO)
+        .setThreadName(Thread.currentThread().getName())
+        .setMessage(new SimpleMessage(benchmark.message))
+        .setTimeMillis(System.currentTimeMillis())
+        .build();
+      length = file.getLayout().toByteArray(event).length;
+    }
+  }
+
+  /**
+   * Creates the logger and the message.
+   *
+   * @throws Exception If the logger could not be created.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    logger = LoggerSetup.create("txt", false, mode);
+
+    char[] chars = new char[length];
+    Arrays.fill(chars, 'x');
+    message = new String(chars);
+  }
+
+  /**
+   * Shuts the logger down.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Logger.shutdown();
+  }
+
+  /**
+   * Writes a message into the text file.
+   *
+   * @param counter Counts the written bytes.
+   */
+  @Benchmark
+  public void write(Bytes counter) {
+    logger.info(this, message);
+    counter.bytes += counter.length;
+  }
+}
@@ -0,0 +1,137 @@
+package de.rene_majewski.logger.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the date converter of log4j ({@code %d}) with the cached one of
+ * the logger ({@code %cd}) in the standard layout of the text file.
+ *
+ * Each operation encodes one message. The time of the messages advances by
+ * {@code step} microseconds per message, so {@code 10} simulates 100
+ * messages per millisecond and {@code 1000} one message per millisecond. The
+ * layout is shared by all threads, e.g. {@code -t 4}.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampBenchmark {
+  /**
+   * Converter of the time: {@code d} or {@code cd}.
+   */
+  @Param({"d", "cd"})
+  public String converter;
+
+  /**
+   * Microseconds by which the time advances per message.
+   */
+  @Param({"10", "1000"})
+  public int step;
+
+  /**
+   * The layout.
+   */
+  private PatternLayout layout;
+
+  /**
+   * Creates the layout.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    layout = PatternLayout.newBuilder()
+      .withPattern("%" + converter + "{dd.MM.yyyy HH:mm:ss:SSS} %-5p [%t] %c: %m%n")
+      .build();
+  }
+
+  /**
+   * The message and the destination of a thread.
+   */
+  @State(Scope.Thread)
+  public static class Event implements ByteBufferDestination {
+    /**
+     * The message.
+     */
+    final MutableLogEvent event = new MutableLogEvent();
+
+    /**
+     * Receives the encoded message.
+     */
+    final ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+    /**
+     * Time of the message in microseconds.
+     */
+    long micros = System.currentTimeMillis() * 1000;
+
+    /**
+     * Fills the message.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+      event.setLevel(org.apache.logging.log4j.Level.INFO);
+      event.setLoggerName("de.rene_majewski.logger.benchmarks.TimestampBenchmark");
+      event.setThreadName("main");
+      event.setMessage(new SimpleMessage("A message of the benchmark"));
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+      return buffer;
+    }
+
+    @Override
+    public ByteBuffer drain(ByteBuffer buf) {
+      buf.clear();
+      return buf;
+    }
+
+    @Override
+    public void writeBytes(ByteBuffer data) {
+      data.position(data.limit());
+    }
+
+    @Override
+    public void writeBytes(byte[] data, int offset, int length) {
+    }
+  }
+
+  /**
+   * Encodes a message.
+   *
+   * @param state The message and the destination of the thread.
+   *
+   * @return Number of encoded bytes.
+   */
+  @Benchmark
+  public int encode(Event state) {
+    state.micros += step;
+    state.event.setTimeMillis(state.micros / 1000);
+    state.buffer.clear();
+    layout.encode(state.event, state);
+    return state.buffer.position();
+  }
+}
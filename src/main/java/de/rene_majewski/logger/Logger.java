@@ -3,34 +3,61 @@ package de.rene_majewski.logger;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.file.Paths;
-import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Properties;
-import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.RollingFileAppender;
 import org.apache.logging.log4j.core.config.ConfigurationFactory;
 import org.apache.logging.log4j.core.config.Configurator;
 import org.apache.logging.log4j.core.config.builder.api.AppenderComponentBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ComponentBuilder;
 import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
-import org.apache.logging.log4j.core.config.builder.api.FilterComponentBuilder;
 import org.apache.logging.log4j.core.config.builder.api.LayoutComponentBuilder;
 import org.apache.logging.log4j.core.config.builder.api.RootLoggerComponentBuilder;
 import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
-
+import org.apache.logging.log4j.status.StatusLogger;
+
+import de.rene_majewski.logger.appender.BatchedFileAppender;
+import de.rene_majewski.logger.appender.BinaryLogAppender;
+import de.rene_majewski.logger.appender.HtmlReportAppender;
+import de.rene_majewski.logger.appender.MappedFileAppender;
+import de.rene_majewski.logger.appender.PeriodicFlush;
+import de.rene_majewski.logger.appender.QueueFullPolicy;
+import de.rene_majewski.logger.metrics.LoggerMetrics;
 import de.rene_majewski.logger.selection.DebugSelection;
 import de.rene_majewski.logger.selection.ErrorSelection;
 import de.rene_majewski.logger.selection.InformationSelection;
+import de.rene_majewski.logger.selection.MessageKey;
+import de.rene_majewski.logger.utils.CatalogMessage;
+import de.rene_majewski.logger.utils.CatalogWatcher;
 import de.rene_majewski.logger.utils.CombinedResourceBundle;
+import de.rene_majewski.logger.utils.ConfigurationProperties;
+import de.rene_majewski.logger.utils.ErrorSuppression;
+import de.rene_majewski.logger.utils.LevelOverrides;
+import de.rene_majewski.logger.utils.MessageCatalog;
+import de.rene_majewski.logger.utils.MessageTemplate;
+import de.rene_majewski.logger.utils.StackTraceRenderer;
 
 /**
  * Logs the various messages.
  * 
+ * The methods of the logger do not synchronize. Log4j itself is thread-safe,
+ * so messages from different threads are formatted and dispatched in
+ * parallel.
+ * 
  * @version 1.0
  * @since 0.1.0
  * @author René Majewski
@@ -49,9 +76,35 @@ public class Logger {
   public static final String RES_CONFIG_FILE = "config/logger_version.propertie";
 
   /**
-   * Saves the instance of this class.
+   * Specifies the directory and name of the configuration file that is read
+   * if no other file has been set.
+   */
+  public static final String RES_CONFIGURATION = "config/logger.properties";
+
+  /**
+   * Name of the system property that specifies the configuration file.
+   */
+  public static final String SYS_CONFIGURATION = "logger.configurationFile";
+
+  /**
+   * Saves the locale of the messages of each thread.
+   * 
+   * Threads without a locale use the default locale.
+   */
+  private static final ThreadLocal<Locale> THREAD_LOCALE = new ThreadLocal<>();
+
+  /**
+   * Saves the instance of this class as soon as it has been created.
+   * 
+   * Only used to shut down the instance. {@link #getInstance()} uses
+   * {@link Holder}, so it needs no lock.
+   */
+  private static volatile Logger instance;
+
+  /**
+   * Saves the name of the configuration file.
    */
-  private static Logger instance;
+  private static String configurationFile;
 
   /**
    * Saves the directory where the logs are to be saved.
@@ -113,64 +166,423 @@ public class Logger {
    */
   private static String environment;
 
+  /**
+   * Should the text file be rolled over?
+   * 
+   * {@code true}, if the text file is appended to and rolled over.
+   * {@code false} if it is overwritten on every start.
+   */
+  private static boolean rolling;
+
+  /**
+   * Size at which the text file is rolled over (e.g. {@code "10 MB"}) or
+   * {@code null}, if the size does not matter.
+   */
+  private static String rollingMaxFileSize;
+
+  /**
+   * Should the text file be rolled over every day?
+   */
+  private static boolean rollingDaily;
+
+  /**
+   * How many rolled over text files are kept?
+   */
+  private static int rollingMaxFiles = 7;
+
+  /**
+   * Should the rolled over text files be compressed?
+   */
+  private static boolean rollingCompress;
+
+  /**
+   * Should the text file be written through a memory mapped region?
+   */
+  private static boolean memoryMapped;
+
+  /**
+   * Size in bytes by which the mapped region of the text file grows.
+   */
+  private static int memoryMappedRegionLength = MappedFileAppender.DEFAULT_REGION_LENGTH;
+
+  /**
+   * Interval in milliseconds in which the mapped region is forced to disk.
+   * 
+   * {@code 0} or less leaves it to the operating system.
+   */
+  private static long memoryMappedForceInterval = 1000;
+
+  /**
+   * Messages of this level or a more severe level are written into the text
+   * file at once.
+   */
+  private static Level flushLevel = Level.ERROR;
+
+  /**
+   * Interval in milliseconds in which the collected messages of the text
+   * file are written.
+   * 
+   * {@code 0} or less writes them only when the buffer is full.
+   */
+  private static long flushInterval = 1000;
+
+  /**
+   * Number of bytes of the text file that are collected before they are
+   * written.
+   */
+  private static int flushSize = BatchedFileAppender.DEFAULT_BUFFER_SIZE;
+
+  /**
+   * Should the text file be written in the binary format?
+   */
+  private static boolean binary;
+
+  /**
+   * Interval in milliseconds in which the buffer of the binary file is
+   * written.
+   * 
+   * {@code 0} or less writes it only when it is full.
+   */
+  private static long binaryFlushInterval = 1000;
+
+  /**
+   * Number of rows that the HTML report writes at once.
+   */
+  private static int htmlReportBatchSize = HtmlReportAppender.DEFAULT_BATCH_SIZE;
+
+  /**
+   * Interval in milliseconds in which an incomplete batch of the HTML report
+   * is written.
+   * 
+   * {@code 0} or less only writes complete batches.
+   */
+  private static long htmlReportFlushInterval = 1000;
+
+  /**
+   * Maximum number of stack trace frames written per error.
+   * 
+   * {@code 0} or less writes all frames.
+   */
+  private static int maxStackTraceDepth;
+
+  /**
+   * Interval in milliseconds in which identical errors are only logged once.
+   * 
+   * {@code 0} or less logs every error.
+   */
+  private static long errorSuppressionInterval;
+
+  /**
+   * Should the logger collect metrics about itself?
+   */
+  private static boolean metricsEnabled;
+
+  /**
+   * Time in milliseconds without further changes after which changed
+   * message files are loaded again.
+   * 
+   * {@code 0} or less does not watch the message files.
+   */
+  private static long messagesReloadDebounce;
+
+  /**
+   * Should the messages be written asynchronously?
+   * 
+   * {@code true}, if the messages are handed over to a background writer.
+   * {@code false} if the calling thread writes them.
+   */
+  private static boolean async;
+
+  /**
+   * How many messages can the queue of the asynchronous logging hold?
+   */
+  private static int asyncQueueSize = 1024;
+
+  /**
+   * What happens to a message if the queue of the asynchronous logging is
+   * full?
+   */
+  private static QueueFullPolicy asyncQueueFullPolicy = QueueFullPolicy.BLOCK;
+
+  /**
+   * Messages at or below this level are dropped if the queue is full and
+   * {@link QueueFullPolicy#DISCARD_BELOW_LEVEL} is used.
+   */
+  private static Level asyncDiscardLevel = Level.INFO;
+
   /**
    * Resource Bundle of the logger messages.
+   * 
+   * The bundle is loaded by a background thread, so creating the logger does
+   * not wait for it. A message that is logged before the bundle is loaded
+   * waits for it. Afterwards reading the bundle costs no more than reading
+   * a volatile field.
+   */
+  private final CompletableFuture<CombinedResourceBundle> messages = new CompletableFuture<>();
+
+  /**
+   * Saves the log4j logger of every class that has created a message.
+   * 
+   * The cache is replaced each time the configuration is created, so no
+   * logger of an old configuration is used.
+   */
+  private volatile ClassValue<org.apache.logging.log4j.Logger> log4jLoggers;
+
+  /**
+   * Forces the memory mapped text file to disk or {@code null}, if it is not
+   * used.
+   */
+  private PeriodicFlush fileSync;
+
+  /**
+   * Writes incomplete batches of the HTML report or {@code null}, if it is
+   * not used.
+   */
+  private PeriodicFlush reportSync;
+
+  /**
+   * Suppresses identical errors or {@code null}, if every error is logged.
+   */
+  private final ErrorSuppression errorSuppression;
+
+  /**
+   * Loads the message files again when they change or {@code null}, if
+   * they are not watched.
+   */
+  private volatile CatalogWatcher messagesWatcher;
+
+  /**
+   * Thread that loads the bundle and writes the start messages.
+   */
+  private final Thread bootstrap;
+
+  /**
+   * Metrics of the logger or {@code null}, if they are not collected.
+   */
+  private final LoggerMetrics metrics;
+
+  /**
+   * Levels of single classes that have been changed at runtime.
    */
-  private ResourceBundle messages;
+  private final LevelOverrides levelOverrides = new LevelOverrides();
 
   /**
    * Initializes the logger.
    * 
    * For more detailed configuration information see {@link #setConfiguration}.
+   * 
+   * Only the log4j configuration is created by the calling thread. The
+   * bundle of the messages and the version informations are read by a
+   * background thread.
    */
   private Logger() {
+    readConfigurationFile();
+
     if (environment == null) {
       environment = "production";
     }
 
+    metrics = metricsEnabled ? new LoggerMetrics(this::getSuppressedCount) : null;
+
     createConfiguration();
 
+    if (errorSuppressionInterval > 0) {
+      errorSuppression = new ErrorSuppression(errorSuppressionInterval, this::writeSuppressedErrors);
+    } else {
+      errorSuppression = null;
+    }
+
+    bootstrap = new Thread(this::start, "logger-bootstrap");
+    bootstrap.setDaemon(true);
+    bootstrap.start();
+
+    instance = this;
+  }
+
+  /**
+   * Loads the bundle of the messages and writes the start messages.
+   * 
+   * Runs on the background thread that is started by the constructor.
+   */
+  private void start() {
+    try {
+      CombinedResourceBundle bundle = loadMessages();
+      messages.complete(bundle);
+      messagesWatcher = watchMessages(bundle);
+    } finally {
+      messages.complete(null);
+    }
+
+    log(this, InformationSelection.KEY_INFO_START_LOGGER);
+
+    Properties prop = readVersionProperties();
+
+    if (prop.size() > 0) {
+      log(this, InformationSelection.KEY_LOGGER_INFO_VERSION, prop.getProperty("project.version"));
+      log(this, InformationSelection.KEY_LOGGER_INFO_BRANCH, prop.getProperty("build.branch"));
+      log(this, InformationSelection.KEY_LOGGER_INFO_COMMIT, prop.getProperty("build.number"));
+      log(this, InformationSelection.KEY_LOGGER_INFO_TIMESTAMP, prop.getProperty("build.time"));
+    }
+  }
+
+  /**
+   * Reads the configuration file and applies its values.
+   * 
+   * The file is {@link #setConfigurationFile set explicitly}, given by the
+   * system property {@value #SYS_CONFIGURATION} or {@value #RES_CONFIGURATION}
+   * in the file system or on the class path. If none of them exists, the
+   * values of the setters are used unchanged.
+   */
+  private static void readConfigurationFile() {
+    String name = configurationFile;
+    if (name == null) {
+      name = System.getProperty(SYS_CONFIGURATION, RES_CONFIGURATION);
+    }
+
+    try {
+      ConfigurationProperties config = ConfigurationProperties.read(name);
+      if (config != null) {
+        applyConfiguration(config);
+      } else if (configurationFile != null) {
+        StatusLogger.getLogger().warn("The configuration file '{}' was not found", name);
+      }
+    } catch (IOException e) {
+      StatusLogger.getLogger().error("The configuration file '{}' could not be read", name, e);
+    }
+  }
+
+  /**
+   * Applies the values of a configuration file.
+   * 
+   * Values that are missing in the file keep the value of the setter.
+   * 
+   * @param config The values of the configuration file.
+   */
+  private static void applyConfiguration(ConfigurationProperties config) {
+    logPath = config.getString("logger.logPath", logPath);
+    messagesPath = config.getString("logger.messagesPath", messagesPath);
+    messagesReloadDebounce = config.getLong("logger.messagesReload", messagesReloadDebounce);
+    environment = config.getString("logger.environment", environment);
+
+    levelRoot = config.getLevel("logger.level", levelRoot);
+    stdout = config.getBoolean("logger.stdout", stdout);
+    levelStdout = config.getLevel("logger.stdout.level", levelStdout);
+    txtFile = config.getBoolean("logger.txtFile", txtFile);
+    levelTxtFile = config.getLevel("logger.txtFile.level", levelTxtFile);
+    htmlFile = config.getBoolean("logger.htmlFile", htmlFile);
+    levelHtmlFile = config.getLevel("logger.htmlFile.level", levelHtmlFile);
+
+    rolling = config.getBoolean("logger.rolling", rolling);
+    rollingMaxFileSize = config.getString("logger.rolling.maxFileSize", rollingMaxFileSize);
+    rollingDaily = config.getBoolean("logger.rolling.daily", rollingDaily);
+    rollingMaxFiles = config.getInt("logger.rolling.maxFiles", rollingMaxFiles);
+    rollingCompress = config.getBoolean("logger.rolling.compress", rollingCompress);
+
+    memoryMapped = config.getBoolean("logger.memoryMapped", memoryMapped);
+    memoryMappedRegionLength = config.getInt("logger.memoryMapped.regionLength", memoryMappedRegionLength);
+    memoryMappedForceInterval = config.getLong("logger.memoryMapped.forceInterval", memoryMappedForceInterval);
+    flushLevel = config.getLevel("logger.flush.level", flushLevel);
+    flushInterval = config.getLong("logger.flush.interval", flushInterval);
+    flushSize = config.getInt("logger.flush.size", flushSize);
+    binary = config.getBoolean("logger.binary", binary);
+    binaryFlushInterval = config.getLong("logger.binary.flushInterval", binaryFlushInterval);
+
+    htmlReportBatchSize = config.getInt("logger.htmlFile.batchSize", htmlReportBatchSize);
+    htmlReportFlushInterval = config.getLong("logger.htmlFile.flushInterval", htmlReportFlushInterval);
+
+    maxStackTraceDepth = config.getInt("logger.maxStackTraceDepth", maxStackTraceDepth);
+    errorSuppressionInterval = config.getLong("logger.errorSuppression", errorSuppressionInterval);
+    metricsEnabled = config.getBoolean("logger.metrics", metricsEnabled);
+
+    async = config.getBoolean("logger.async", async);
+    asyncQueueSize = config.getInt("logger.async.queueSize", asyncQueueSize);
+    asyncQueueFullPolicy = config.getEnum("logger.async.policy", QueueFullPolicy.class, asyncQueueFullPolicy);
+    asyncDiscardLevel = config.getLevel("logger.async.discardLevel", asyncDiscardLevel);
+  }
+
+  /**
+   * Loads the resource bundle of the logger messages.
+   * 
+   * @return Resource bundle of the logger messages or {@code null}, if no
+   * directory for message files has been set.
+   */
+  private static CombinedResourceBundle loadMessages() {
     if (messagesPath != null) {
       try {
         List<String> list = new ArrayList<>();
         list.add(RES_BUNDLE);
-        if (Logger.messagesPath != null && !Logger.messagesPath.isEmpty()) {
+        if (!Logger.messagesPath.isEmpty()) {
           list.add(Logger.messagesPath);
         }
-        messages = new CombinedResourceBundle(list);
+        return new CombinedResourceBundle(list);
       } catch (Exception e) {
         e.printStackTrace();
       }
     }
 
-    log(Level.INFO, this, InformationSelection.INFO_START_LOGGER, null);
-
-    Properties prop = readVersionProperties();
+    return null;
+  }
 
-    if (prop.size() > 0) {
-      log(Level.INFO, this, InformationSelection.LOGGER_INFO_VERSION, new String[] {prop.getProperty("project.version")});
-      log(Level.INFO, this, InformationSelection.LOGGER_INFO_BRANCH, new String[] {prop.getProperty("build.branch")});
-      log(Level.INFO, this, InformationSelection.LOGGER_INFO_COMMIT, new String[] {prop.getProperty("build.number")});
-      log(Level.INFO, this, InformationSelection.LOGGER_INFO_TIMESTAMP, new String[] {prop.getProperty("build.time")});
+  /**
+   * Starts watching the message files.
+   * 
+   * @param messages Resource bundle of the logger messages or {@code null}.
+   * 
+   * @return The watcher of the message files or {@code null}, if they are
+   * not watched.
+   */
+  private static CatalogWatcher watchMessages(CombinedResourceBundle messages) {
+    if (messages != null && messagesReloadDebounce > 0) {
+      try {
+        return new CatalogWatcher(messages, messagesReloadDebounce);
+      } catch (IOException e) {
+        StatusLogger.getLogger().error("The message files can not be watched", e);
+      }
     }
+
+    return null;
+  }
+
+  /**
+   * Creates the instance of the logger when it is used for the first time.
+   * 
+   * The JVM initializes the class exactly once and publishes the instance to
+   * all threads, so no lock is needed afterwards.
+   */
+  private static final class Holder {
+    /**
+     * The instance of the logger.
+     */
+    private static final Logger INSTANCE = new Logger();
   }
 
   /**
    * Returns the instance of the logger.
    * 
+   * The first call creates the log4j configuration and returns without
+   * waiting for the bundle of the messages. The following calls take no
+   * lock.
+   * 
+   * The logger must not call this method while it is created, because the
+   * instance does not exist yet. It uses {@code this} instead.
+   * 
    * @return Instance of the logger.
    */
-  public static synchronized Logger getInstance() {
-    if (instance == null) {
-      instance = new Logger();
-    }
-    return instance;
+  public static Logger getInstance() {
+    return Holder.INSTANCE;
   }
 
   /**
    * Creates the configuration.
+   * 
+   * Only the appenders that are enabled are added to the configuration, so
+   * log4j does not create the others.
+   * 
+   * The level of each appender is checked by its reference, before the
+   * message is formatted. The root logger does not use a level that is more
+   * verbose than the most verbose appender, so messages that no appender
+   * would write are discarded by the first level check.
    */
-  // TODO Read configuration from properties file.
   protected void createConfiguration() {
     if (levelRoot == null) {
       levelRoot = Level.DEBUG;
@@ -181,7 +593,7 @@ public class Logger {
     }
 
     if (levelTxtFile == null) {
-      levelHtmlFile = Level.DEBUG;
+      levelTxtFile = Level.DEBUG;
     }
 
     if (levelHtmlFile == null) {
@@ -189,61 +601,207 @@ public class Logger {
     }
 
     ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationFactory.newConfigurationBuilder();
-    RootLoggerComponentBuilder rootLogger = builder.newRootLogger(levelRoot);
 
     // Layouts
     LayoutComponentBuilder standard = builder.newLayout("patternLayout");
-    standard.addAttribute("pattern", "%d{dd.MM.yyyy HH:mm:ss:SSS} %-5p [%t] %c: %m%n");
+    standard.addAttribute("pattern", "%cd{dd.MM.yyyy HH:mm:ss:SSS} %-5p [%t] %c: %m%n");
     standard.addAttribute("charset", "UTF-8");
 
-    LayoutComponentBuilder htmlError = builder.newLayout("HtmlLayout");
-    htmlError.addAttribute("charset", "UTF-8");
-    htmlError.addAttribute("title", "Error-Report");
-    htmlError.addAttribute("fontSize", "12");
-
-    // Filter
-    FilterComponentBuilder filterHtml = builder.newFilter(
-      "ThresholdFilter", 
-      Filter.Result.ACCEPT, 
-      Filter.Result.DENY
-    );
-
-    if (environment.equals("development")) {
-      filterHtml.addAttribute("level", Level.ALL);
-    } else {
-      filterHtml.addAttribute("level", Level.WARN);
-    }
+    // Levels of the appenders
+    Map<String, Level> appenders = new LinkedHashMap<>();
 
     // stdout
     if (Logger.stdout) {
       AppenderComponentBuilder console = builder.newAppender("stdout", "Console");
       console.add(standard);
       builder.add(console);
-      rootLogger.add(builder.newAppenderRef("stdout"));
+      appenders.put("stdout", levelStdout);
     }
 
     // Text file
-    if (Logger.txtFile) {
-      AppenderComponentBuilder file = builder.newAppender("fileText", "File");
+    if (Logger.txtFile && Logger.binary) {
+      AppenderComponentBuilder file = builder.newAppender("fileText", "BinaryLog");
+      file.addAttribute("fileName", Paths.get(logPath, environment + ".bin"));
+      builder.add(file);
+      appenders.put("fileText", levelTxtFile);
+    } else if (Logger.txtFile && Logger.memoryMapped) {
+      AppenderComponentBuilder file = builder.newAppender("fileText", "MappedFile");
+      file.addAttribute("fileName", Paths.get(logPath, environment + ".txt"));
+      file.addAttribute("append", false);
+      file.addAttribute("regionLength", memoryMappedRegionLength);
+      file.add(standard);
+      builder.add(file);
+      appenders.put("fileText", levelTxtFile);
+    } else if (Logger.txtFile && Logger.rolling) {
+      String pattern = environment + (rollingDaily ? "-%d{yyyy-MM-dd}" : "") + "-%i.txt";
+      if (rollingCompress) {
+        pattern += ".gz";
+      }
+
+      ComponentBuilder<?> policies = builder.newComponent("Policies");
+      if (rollingMaxFileSize != null && !rollingMaxFileSize.isEmpty()) {
+        policies.addComponent(builder.newComponent("SizeBasedTriggeringPolicy")
+          .addAttribute("size", rollingMaxFileSize));
+      }
+      if (rollingDaily) {
+        policies.addComponent(builder.newComponent("TimeBasedTriggeringPolicy")
+          .addAttribute("interval", 1));
+      }
+
+      AppenderComponentBuilder file = builder.newAppender("fileText", "RollingFile");
+      file.addAttribute("fileName", Paths.get(logPath, environment + ".txt"));
+      file.addAttribute("filePattern", Paths.get(logPath, pattern));
+      file.addAttribute("append", true);
+      file.addAttribute("immediateFlush", false);
+      file.addAttribute("bufferSize", flushSize);
+      file.addComponent(policies);
+      // "max" only limits the files of one day, the Delete action keeps
+      // the given number of rolled over files over all days. Its pattern
+      // only matches the rolled over files of this environment.
+      String rolled = Pattern.quote(environment) + (rollingDaily ? "-\\d{4}-\\d{2}-\\d{2}" : "")
+                      + "-\\d+\\.txt" + (rollingCompress ? "\\.gz" : "");
+      file.addComponent(builder.newComponent("DefaultRolloverStrategy")
+        .addAttribute("max", rollingMaxFiles)
+        .addComponent(builder.newComponent("Delete")
+          .addAttribute("basePath", logPath)
+          .addAttribute("maxDepth", 1)
+          .addComponent(builder.newComponent("IfFileName")
+            .addAttribute("regex", rolled)
+            .addComponent(builder.newComponent("IfAccumulatedFileCount")
+              .addAttribute("exceeds", rollingMaxFiles)))));
+      file.add(standard);
+      builder.add(file);
+      appenders.put("fileText", levelTxtFile);
+    } else if (Logger.txtFile) {
+      AppenderComponentBuilder file = builder.newAppender("fileText", "BatchedFile");
       file.addAttribute("fileName", Paths.get(logPath, environment + ".txt"));
       file.addAttribute("append", false);
+      file.addAttribute("bufferSize", flushSize);
+      file.addAttribute("flushLevel", flushLevel);
       file.add(standard);
       builder.add(file);
-      rootLogger.add(builder.newAppenderRef("fileText"));
+      appenders.put("fileText", levelTxtFile);
     }
 
     // HTML file
     if (Logger.htmlFile) {
-      AppenderComponentBuilder html = builder.newAppender("fileHtml", "File");
+      AppenderComponentBuilder html = builder.newAppender("fileHtml", "HtmlReport");
       html.addAttribute("fileName", Paths.get(logPath, environment + ".html"));
-      html.addAttribute("append", false);
-      html.add(htmlError);
-      html.add(filterHtml);
+      html.addAttribute("batchSize", htmlReportBatchSize);
+      html.addAttribute("title", "Error-Report");
       builder.add(html);
-      rootLogger.add(builder.newAppenderRef("fileHtml"));
+      appenders.put("fileHtml", environment.equals("development") ? Level.ALL : levelHtmlFile);
+    }
+
+    // Metrics
+    Map<String, Level> refs = appenders;
+    if (metrics != null) {
+      refs = new LinkedHashMap<>();
+      for (Map.Entry<String, Level> entry : appenders.entrySet()) {
+        String name = "metered-" + entry.getKey();
+        builder.add(builder.newAppender(name, "Metered").addAttribute("ref", entry.getKey()));
+        refs.put(name, entry.getValue());
+      }
+    }
+
+    // Root logger
+    Level mostVerbose = Level.OFF;
+    for (Level level : appenders.values()) {
+      if (level.isLessSpecificThan(mostVerbose)) {
+        mostVerbose = level;
+      }
+    }
+    RootLoggerComponentBuilder rootLogger = builder.newRootLogger(
+      levelRoot.isMoreSpecificThan(mostVerbose) ? levelRoot : mostVerbose);
+
+    // Asynchronous
+    if (Logger.async) {
+      AppenderComponentBuilder asyncAppender = builder.newAppender("async", "Async");
+      asyncAppender.addAttribute("bufferSize", asyncQueueSize);
+      asyncAppender.addAttribute("blocking", true);
+      asyncAppender.addAttribute("shutdownTimeout", 0);
+      asyncAppender.addComponent(builder.newComponent("RingBufferQueue")
+        .addAttribute("policy", asyncQueueFullPolicy.name())
+        .addAttribute("discardLevel", asyncDiscardLevel.name()));
+      refs.forEach((name, level) -> asyncAppender.addComponent(
+        builder.newAppenderRef(name).addAttribute("level", level)));
+      builder.add(asyncAppender);
+      rootLogger.add(builder.newAppenderRef("async"));
+    } else {
+      refs.forEach((name, level) -> rootLogger.add(
+        builder.newAppenderRef(name).addAttribute("level", level)));
+    }
+
+    builder.add(rootLogger);
+
+    LoggerContext context = Configurator.initialize(builder.build());
+    log4jLoggers = newLog4jLoggerCache();
+
+    if (metrics != null) {
+      context.getConfiguration().getRootLogger().addFilter(metrics.getFilter());
+      metrics.register();
+    }
+
+    // Overrides of single loggers write all their messages into the text
+    // file. The other appenders keep their levels. The appenders are
+    // referenced directly, also if the messages are written asynchronously.
+    Map<String, Level> overrideRefs = new LinkedHashMap<>(refs);
+    String fileRef = metrics != null ? "metered-fileText" : "fileText";
+    if (overrideRefs.containsKey(fileRef)) {
+      overrideRefs.put(fileRef, Level.ALL);
+    }
+    levelOverrides.setAppenders(overrideRefs);
+
+    if (fileSync != null) {
+      fileSync.close();
+      fileSync = null;
+    }
+
+    if (reportSync != null) {
+      reportSync.close();
+      reportSync = null;
+    }
+
+    if (Logger.htmlFile && htmlReportFlushInterval > 0) {
+      Appender html = context.getConfiguration().getAppender("fileHtml");
+      if (html instanceof HtmlReportAppender) {
+        reportSync = new PeriodicFlush(html.getName(), (HtmlReportAppender) html, htmlReportFlushInterval);
+      }
+    }
+
+    if (Logger.txtFile && Logger.binary && binaryFlushInterval > 0) {
+      Appender file = context.getConfiguration().getAppender("fileText");
+      if (file instanceof BinaryLogAppender) {
+        fileSync = new PeriodicFlush(file.getName(), (BinaryLogAppender) file, binaryFlushInterval);
+      }
+    } else if (Logger.txtFile && Logger.memoryMapped && memoryMappedForceInterval > 0) {
+      Appender file = context.getConfiguration().getAppender("fileText");
+      if (file instanceof MappedFileAppender) {
+        fileSync = new PeriodicFlush(file.getName(), (MappedFileAppender) file, memoryMappedForceInterval);
+      }
+    } else if (Logger.txtFile && flushInterval > 0) {
+      Appender file = context.getConfiguration().getAppender("fileText");
+      if (file instanceof BatchedFileAppender) {
+        fileSync = new PeriodicFlush(file.getName(), (BatchedFileAppender) file, flushInterval);
+      } else if (file instanceof RollingFileAppender) {
+        fileSync = new PeriodicFlush(file.getName(), ((RollingFileAppender) file).getManager()::flush,
+                                     flushInterval);
+      }
     }
+  }
 
-    Configurator.initialize(builder.build());
+  /**
+   * Creates an empty cache for the log4j loggers of the calling classes.
+   * 
+   * @return Empty cache for log4j loggers.
+   */
+  private static ClassValue<org.apache.logging.log4j.Logger> newLog4jLoggerCache() {
+    return new ClassValue<org.apache.logging.log4j.Logger>() {
+      @Override
+      protected org.apache.logging.log4j.Logger computeValue(Class<?> type) {
+        return LogManager.getLogger(type.getName());
+      }
+    };
   }
 
   /**
@@ -252,7 +810,7 @@ public class Logger {
    * 
    * @return The configuration properties for version informations.
    */
-  protected synchronized Properties readVersionProperties() {
+  protected Properties readVersionProperties() {
     Properties result = new Properties();
 
     try {
@@ -261,7 +819,7 @@ public class Logger {
         result.load(new InputStreamReader(inp, "UTF-8"));
       }
     } catch (IOException e) {
-      getInstance().error(this, e);
+      error(this, e);
     }
 
     return result;
@@ -276,15 +834,92 @@ public class Logger {
    * 
    * @param err Error from which the error message should be created.
    */
-  protected synchronized void writeErrorMessage(Level level, Object caller, Exception err) {
-    StringBuffer buffer = new StringBuffer();
+  protected void writeErrorMessage(Level level, Object caller, Exception err) {
+    if (!isEnabled(level, caller)) {
+      return;
+    }
 
-    for (StackTraceElement el : err.getStackTrace()) {
-      buffer.append(el.toString());
-      buffer.append("\n");
+    if (errorSuppression != null && !errorSuppression.tryLog(caller, level, err)) {
+      return;
+    }
+
+    log(level, caller, ErrorSelection.ERROR, err.getMessage(),
+        new StackTraceRenderer(err, maxStackTraceDepth));
+  }
+
+  /**
+   * Logs how many identical errors were suppressed.
+   * 
+   * @param caller Class that reported the errors.
+   * 
+   * @param level Level of the errors.
+   * 
+   * @param type Class name of the errors.
+   * 
+   * @param location Place where the errors were thrown.
+   * 
+   * @param count Number of suppressed errors.
+   */
+  private void writeSuppressedErrors(Class<?> caller, Level level, String type,
+                                     StackTraceElement location, long count) {
+    org.apache.logging.log4j.Logger log4j = log4jLoggers.get(caller);
+
+    if (log4j.isEnabled(level)) {
+      writeMessage(log4j, level, ErrorSelection.ERROR_SUPPRESSED,
+                   ErrorSelection.KEY_ERROR_SUPPRESSED.getHandle(),
+                   new Object[] {count, type, location});
     }
+  }
 
-    log(level, caller, ErrorSelection.ERROR, new String[] {err.getMessage(), buffer.toString()});
+  /**
+   * Sets the configuration file.
+   * 
+   * The file is read once when the logger is created. Its values replace
+   * the values of the other setters, keys that are missing in the file keep
+   * the values of the setters. The file is searched in the file system first
+   * and then on the class path.
+   * 
+   * Example:
+   * <pre>
+   * logger.logPath = logs
+   * logger.environment = production
+   * logger.level = DEBUG
+   * logger.stdout = true
+   * logger.stdout.level = INFO
+   * logger.txtFile = true
+   * logger.txtFile.level = DEBUG
+   * logger.htmlFile = true
+   * logger.htmlFile.level = WARN
+   * logger.async = true
+   * logger.async.queueSize = 4096
+   * logger.async.policy = DISCARD_BELOW_LEVEL
+   * </pre>
+   * 
+   * All keys: {@code logger.logPath}, {@code logger.messagesPath},
+   * {@code logger.messagesReload}, {@code logger.environment},
+   * {@code logger.level}, {@code logger.stdout}, {@code logger.stdout.level},
+   * {@code logger.txtFile}, {@code logger.txtFile.level},
+   * {@code logger.htmlFile}, {@code logger.htmlFile.level},
+   * {@code logger.htmlFile.batchSize}, {@code logger.htmlFile.flushInterval},
+   * {@code logger.rolling}, {@code logger.rolling.maxFileSize},
+   * {@code logger.rolling.daily}, {@code logger.rolling.maxFiles},
+   * {@code logger.rolling.compress}, {@code logger.memoryMapped},
+   * {@code logger.memoryMapped.regionLength},
+   * {@code logger.memoryMapped.forceInterval}, {@code logger.flush.level},
+   * {@code logger.flush.interval}, {@code logger.flush.size},
+   * {@code logger.binary},
+   * {@code logger.binary.flushInterval},
+   * {@code logger.maxStackTraceDepth}, {@code logger.errorSuppression},
+   * {@code logger.metrics},
+   * {@code logger.async}, {@code logger.async.queueSize},
+   * {@code logger.async.policy} and {@code logger.async.discardLevel}.
+   * 
+   * @param file Name of the configuration file. {@code null} uses the
+   * system property {@value #SYS_CONFIGURATION} or
+   * {@value #RES_CONFIGURATION}.
+   */
+  public static void setConfigurationFile(String file) {
+    Logger.configurationFile = file;
   }
 
   /**
@@ -299,6 +934,11 @@ public class Logger {
   /**
    * Serts the directory for the messages files.
    * 
+   * The path is the base name of the application's bundle. It can be a
+   * resource on the class path (e.g. {@code messages/app}) or a path in the
+   * file system (e.g. {@code /etc/app/messages}). The files are read as
+   * UTF-8.
+   * 
    * @param path Directory for the messages files.
    */
   public static void setMessagesPath(String path) {
@@ -306,15 +946,277 @@ public class Logger {
   }
 
   /**
-   * Set the configuration.
+   * Sets the rolling of the text file.
    * 
-   * @param rootLevel Whicht log level should be used for the root logger?
+   * If enabled, the text file is no longer overwritten on every start, but
+   * appended to. If it reaches the maximum size or a new day begins, it is
+   * renamed to {@code <environment>-<date>-<index>.txt} and a new file is
+   * started. Compressing the old file is done by a background thread of
+   * log4j, so it does not block the logging.
    * 
-   * @param stdout Should be output via stdout?
+   * @param rolling Should the text file be rolled over?
    * 
-   * @param stdoutLevel Which log level should be used for stdout?
+   * @param maxFileSize Size at which the text file is rolled over (e.g.
+   * {@code "10 MB"}) or {@code null}, if the size does not matter.
    * 
-   * @param txtFile Should the logger write the output to a text file?
+   * @param daily Should the text file be rolled over every day?
+   * 
+   * @param maxFiles How many rolled over text files are kept?
+   * 
+   * @param compress Should the rolled over text files be compressed with
+   * gzip?
+   */
+  public static void setRollingConfiguration(boolean rolling, String maxFileSize,
+                                             boolean daily, int maxFiles,
+                                             boolean compress) {
+    Logger.rolling = rolling;
+    Logger.rollingMaxFileSize = maxFileSize;
+    Logger.rollingDaily = daily;
+    Logger.rollingMaxFiles = maxFiles;
+    Logger.rollingCompress = compress;
+  }
+
+  /**
+   * Sets the memory mapped output of the text file.
+   * 
+   * If enabled, the text file is written into a memory mapped region instead
+   * of a stream. The region grows in chunks of the given length. A background
+   * thread forces the region to disk at the given interval. The memory mapped
+   * output takes precedence over the rolling of the text file.
+   * 
+   * @param memoryMapped Should the text file be written through a memory
+   * mapped region?
+   * 
+   * @param regionLength Size in bytes by which the mapped region grows.
+   * 
+   * @param forceInterval Interval in milliseconds in which the region is
+   * forced to disk. {@code 0} or less leaves it to the operating system.
+   */
+  public static void setMemoryMappedConfiguration(boolean memoryMapped,
+                                                  int regionLength,
+                                                  long forceInterval) {
+    Logger.memoryMapped = memoryMapped;
+    Logger.memoryMappedRegionLength = regionLength;
+    Logger.memoryMappedForceInterval = forceInterval;
+  }
+
+  /**
+   * Sets when the messages of the text file are written.
+   * 
+   * The messages are collected in a buffer and written with a single system
+   * call: at once after a message of the given level or a more severe
+   * level, at the given interval and when the given number of bytes have
+   * been collected. If the process crashes, the messages since the last
+   * write are lost. The rolled text file is written at the interval and when
+   * the buffer is full only. The level has no effect on it.
+   * 
+   * {@code Level.ALL} writes each message at once.
+   * 
+   * @param level Messages of this level or a more severe level are written at
+   * once. {@code Level.OFF} writes no message at once.
+   * 
+   * @param interval Interval in milliseconds in which the messages are
+   * written. {@code 0} or less writes them only when the buffer is full.
+   * 
+   * @param size Number of bytes that are collected before they are written.
+   */
+  public static void setFlushPolicy(Level level, long interval, int size) {
+    Logger.flushLevel = level;
+    Logger.flushInterval = interval;
+    Logger.flushSize = size;
+  }
+
+  /**
+   * Sets the binary output of the text file.
+   * 
+   * If enabled, the text file is replaced by the file
+   * {@code <environment>.bin}. It contains the parts of the messages instead
+   * of the formatted text and is converted into text by
+   * {@link de.rene_majewski.logger.appender.BinaryLogDecoder}. The messages
+   * are collected in a buffer, which a background thread writes at the given
+   * interval. The binary output takes precedence over the memory mapped
+   * output and the rolling of the text file.
+   * 
+   * @param binary Should the text file be written in the binary format?
+   * 
+   * @param flushInterval Interval in milliseconds in which the buffer is
+   * written. {@code 0} or less writes it only when it is full.
+   */
+  public static void setBinaryConfiguration(boolean binary, long flushInterval) {
+    Logger.binary = binary;
+    Logger.binaryFlushInterval = flushInterval;
+  }
+
+  /**
+   * Sets the configuration of the HTML report.
+   * 
+   * The rows of the report are written in batches. After each batch the
+   * report is a complete HTML document. Next to the report an index file
+   * ({@code .html.idx}) lists the ID of each message with the position of
+   * its row in the report.
+   * 
+   * @param batchSize Number of rows that are written at once.
+   * 
+   * @param flushInterval Interval in milliseconds in which an incomplete
+   * batch is written. {@code 0} or less only writes complete batches.
+   */
+  public static void setHtmlReportConfiguration(int batchSize, long flushInterval) {
+    Logger.htmlReportBatchSize = batchSize;
+    Logger.htmlReportFlushInterval = flushInterval;
+  }
+
+  /**
+   * Sets the maximum number of stack trace frames written per error.
+   * 
+   * The remaining frames are summarized in a line {@code ... N more}.
+   * 
+   * @param depth Maximum number of frames. {@code 0} or less writes all
+   * frames.
+   */
+  public static void setMaxStackTraceDepth(int depth) {
+    Logger.maxStackTraceDepth = depth;
+  }
+
+  /**
+   * Sets the interval in which identical errors are only logged once.
+   * 
+   * Errors are identical if they were reported by the same class, have the
+   * same type and were thrown at the same place. The first error is logged
+   * in full, the following ones are only counted. At the end of each interval
+   * the number of suppressed errors is logged.
+   * 
+   * @param interval Length of the interval in milliseconds. {@code 0} or
+   * less logs every error.
+   */
+  public static void setErrorSuppression(long interval) {
+    Logger.errorSuppressionInterval = interval;
+  }
+
+  /**
+   * Sets the locale of the messages that are logged by the current thread.
+   * 
+   * Useful if a thread handles a request of a user with another language.
+   * The catalog of a locale is loaded when it is used for the first time.
+   * 
+   * @param locale Locale of the messages. {@code null} uses the default
+   * locale again.
+   */
+  public static void setThreadLocale(Locale locale) {
+    if (locale != null) {
+      THREAD_LOCALE.set(locale);
+    } else {
+      THREAD_LOCALE.remove();
+    }
+  }
+
+  /**
+   * Sets whether the message files are loaded again when they change.
+   * 
+   * The new messages are used as soon as they are loaded, a restart is not
+   * necessary. Messages that are logged at the same time are not blocked.
+   * Only message files in the file system are watched, not the ones inside
+   * a jar.
+   * 
+   * @param debounce Time in milliseconds without further changes after which
+   * the files are loaded again. {@code 0} or less does not watch the files.
+   */
+  public static void setMessagesReload(long debounce) {
+    Logger.messagesReloadDebounce = debounce;
+  }
+
+  /**
+   * Sets whether the logger collects metrics about itself.
+   * 
+   * The metrics contain the number of events per level and per class, the
+   * dropped and suppressed events, the time each appender needs to write an
+   * event and the bytes written per appender. They can be polled through
+   * {@link #getMetrics()} or read through JMX
+   * ({@value LoggerMetrics#OBJECT_NAME}).
+   * 
+   * @param enabled Should metrics be collected?
+   */
+  public static void setMetrics(boolean enabled) {
+    Logger.metricsEnabled = enabled;
+  }
+
+  /**
+   * Sets the configuration of the asynchronous logging.
+   * 
+   * If enabled, all appenders are written by a background thread. The calling
+   * thread only puts the message into a bounded ring buffer. When log4j is
+   * shut down, all messages still in the buffer are written.
+   * 
+   * @param async Should the messages be written asynchronously?
+   * 
+   * @param queueSize How many messages can the queue hold?
+   * 
+   * @param policy What happens to a message if the queue is full?
+   * 
+   * @param discardLevel Messages at or below this level are dropped if the
+   * queue is full and {@link QueueFullPolicy#DISCARD_BELOW_LEVEL} is used.
+   */
+  public static void setAsyncConfiguration(boolean async, int queueSize,
+                                           QueueFullPolicy policy,
+                                           Level discardLevel) {
+    Logger.async = async;
+    Logger.asyncQueueSize = queueSize;
+    Logger.asyncQueueFullPolicy = policy;
+    Logger.asyncDiscardLevel = discardLevel;
+  }
+
+  /**
+   * Shuts down log4j.
+   * 
+   * All messages that are still in the queue of the asynchronous logging are
+   * written before the appenders are closed. Errors that are still
+   * suppressed are reported before.
+   */
+  public static void shutdown() {
+    if (instance != null && instance.metrics != null) {
+      instance.metrics.unregister();
+    }
+
+    if (instance != null) {
+      try {
+        instance.bootstrap.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      instance.levelOverrides.close();
+    }
+
+    if (instance != null && instance.messagesWatcher != null) {
+      instance.messagesWatcher.close();
+    }
+
+    if (instance != null && instance.errorSuppression != null) {
+      instance.errorSuppression.close();
+    }
+
+    if (instance != null && instance.fileSync != null) {
+      instance.fileSync.close();
+      instance.fileSync = null;
+    }
+
+    if (instance != null && instance.reportSync != null) {
+      instance.reportSync.close();
+      instance.reportSync = null;
+    }
+
+    LogManager.shutdown();
+  }
+
+  /**
+   * Set the configuration.
+   * 
+   * @param rootLevel Whicht log level should be used for the root logger?
+   * 
+   * @param stdout Should be output via stdout?
+   * 
+   * @param stdoutLevel Which log level should be used for stdout?
+   * 
+   * @param txtFile Should the logger write the output to a text file?
    * 
    * @param txtFileLevel Which log level should be used for text file?
    * 
@@ -346,28 +1248,21 @@ public class Logger {
    * 
    * @param message Message to be logged.
    */
-  public synchronized void log(Level level, Object caller, String message) {
-    org.apache.logging.log4j.Logger log4j = LogManager.getLogger(caller.getClass().getName());
+  public void log(Level level, Object caller, String message) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
 
-    if (level == Level.TRACE || level == Level.ALL) {
-      log4j.trace(message);
-    } else if (level == Level.DEBUG) {
-      log4j.debug(message);
-    } else if (level == Level.INFO) {
-      log4j.info(message);
-    } else if (level == Level.WARN) {
-      log4j.warn(message);
-    } else if (level == Level.ERROR) {
-      log4j.error(message);
-    } else if (level == Level.FATAL) {
-      log4j.fatal(message);
+    if (isEnabled(log4j, log4jLevel)) {
+      log4j.log(log4jLevel, message);
     }
   }
 
-
   /**
    *  Logs the message with the given ID.
    * 
+   * The level is checked first, so a disabled message neither looks up the
+   * ID nor formats the parameters.
+   * 
    * @param level Level of the message.
    * 
    * @param caller Class that created the message.
@@ -376,156 +1271,1351 @@ public class Logger {
    * 
    * @param params Parameters to be passed to the message.
    */
-  public synchronized void log(Level level, Object caller, String id, Object[] params) {
-    String message = id;
-    if (messages != null) {
-      try {
-        message = messages.getString(id);
-      } catch (MissingResourceException e) {
-        error(this, "The resource ID '" + id + "' was not found");
-      }
+  public void log(Level level, Object caller, String id, Object[] params) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
+
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, params);
     }
+  }
+
+  /**
+   * Logs the message with the given ID and one parameter.
+   * 
+   * The parameter is only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void log(Level level, Object caller, String id, Object p0) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
 
-    if (params != null) {
-      message = MessageFormat.format(message, params);
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0});
     }
+  }
+
+  /**
+   * Logs the message with the given ID and two parameters.
+   * 
+   * The parameters are only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   */
+  public void log(Level level, Object caller, String id, Object p0, Object p1) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
 
-    log(level, caller, message);
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0, p1});
+    }
   }
 
   /**
-   * Generates a debug message.
+   * Logs the message with the given ID and three parameters.
+   * 
+   * The parameters are only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
    * 
    * @param caller Class that created the message.
    * 
    * @param id ID of the message to be logged.
    * 
-   * @param params Parameters to be passed to the message.
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
    */
-  public synchronized void debug(Object caller, String id, Object[] params) {
-    log(Level.DEBUG, caller, id, params);
+  public void log(Level level, Object caller, String id, Object p0, Object p1, Object p2) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
+
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0, p1, p2});
+    }
   }
 
   /**
-   * Generates a debug message.
+   * Logs the message with the given ID and four parameters.
+   * 
+   * The parameters are only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
    * 
    * @param caller Class that created the message.
    * 
    * @param id ID of the message to be logged.
    * 
-   * @param params Parameters to be passed to the message.
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   * 
+   * @param p3 Fourth parameter to be passed to the message.
    */
-  public synchronized void debug(Object caller, String variableName, String variableValue) {
-    log(Level.DEBUG, caller, DebugSelection.DEBUG_OUT, new String[] {variableName, variableValue});
+  public void log(Level level, Object caller, String id, Object p0, Object p1, Object p2, Object p3) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
+
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0, p1, p2, p3});
+    }
   }
 
   /**
-   * Generates a debug message.
+   * Logs the message with the given ID and one int parameter.
+   * 
+   * The parameter is only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
    * 
    * @param caller Class that created the message.
    * 
-   * @param params Parameters to be passed to the message.
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
    */
-  public synchronized void debug(Object caller, String message) {
-    log(Level.DEBUG, caller, message);
+  public void log(Level level, Object caller, String id, int p0) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
+
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0});
+    }
   }
 
   /**
-   * Generates an information message.
+   * Logs the message with the given ID and one long parameter.
+   * 
+   * The parameter is only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
    * 
    * @param caller Class that created the message.
    * 
    * @param id ID of the message to be logged.
    * 
-   * @param params Parameters to be passed to the message.
+   * @param p0 Parameter to be passed to the message.
    */
-  public synchronized void info(Object caller, String id, Object[] params) {
-    log(Level.INFO, caller, id, params);
+  public void log(Level level, Object caller, String id, long p0) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
+
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0});
+    }
   }
 
   /**
-   * Generates an information mesage.
+   * Logs the message with the given ID and one double parameter.
+   * 
+   * The parameter is only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
    * 
    * @param caller Class that created the message.
    * 
    * @param id ID of the message to be logged.
    * 
-   * @param params Parameters to be passed to the message.
+   * @param p0 Parameter to be passed to the message.
    */
-  public synchronized void info(Object caller, String message) {
-    log(Level.INFO, caller, message);
+  public void log(Level level, Object caller, String id, double p0) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
+
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0});
+    }
   }
 
   /**
-   * Generates a warning message.
+   * Logs the message with the given ID and one boolean parameter.
+   * 
+   * The parameter is only boxed into an array if the message is logged.
+   * 
+   * @param level Level of the message.
    * 
    * @param caller Class that created the message.
    * 
    * @param id ID of the message to be logged.
    * 
-   * @param params Parameters to be passed to the message.
+   * @param p0 Parameter to be passed to the message.
    */
-  public synchronized void warn(Object caller, String id, Object[] params) {
-    log(Level.WARN, caller, id, params);
+  public void log(Level level, Object caller, String id, boolean p0) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+    Level log4jLevel = toLog4jLevel(level);
+
+    if (isEnabled(log4j, log4jLevel)) {
+      writeMessage(log4j, log4jLevel, id, new Object[] {p0});
+    }
   }
 
   /**
-   * Generates a warninung message.
+   * Logs the message of the given key with its default level.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param key Key of the message to be logged.
+   */
+  public void log(Object caller, MessageKey key) {
+    log(caller, key, (Object[]) null);
+  }
+
+  /**
+   * Logs the message of the given key with its default level.
+   * 
+   * The key already knows where its message is found in the catalog, so the
+   * ID is neither hashed nor searched.
    * 
    * @param caller Class that created the message.
    * 
+   * @param key Key of the message to be logged.
+   * 
    * @param params Parameters to be passed to the message.
    */
-  public synchronized void warn(Object caller, String message) {
-    log(Level.WARN, caller, message);
+  public void log(Object caller, MessageKey key, Object[] params) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+
+    if (isEnabled(log4j, key.getLevel())) {
+      writeMessage(log4j, key.getLevel(), key.getId(), key.getHandle(), params);
+    }
   }
 
   /**
-   * Generates a error message.
+   * Logs the message of the given key in the given locale.
+   * 
+   * The catalog of the locale is loaded when it is used for the first time.
+   * 
+   * @param locale Locale of the message. {@code null} uses the locale of the
+   * current thread (see {@link #setThreadLocale}).
    * 
    * @param caller Class that created the message.
    * 
-   * @param id ID of the message to be logged.
+   * @param key Key of the message to be logged.
    * 
    * @param params Parameters to be passed to the message.
    */
-  public synchronized void error(Object caller, String id, Object[] params) {
-    log(Level.ERROR, caller, id, params);
+  public void log(Locale locale, Object caller, MessageKey key, Object[] params) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+
+    if (isEnabled(log4j, key.getLevel())) {
+      writeMessage(log4j, key.getLevel(), locale != null ? locale : THREAD_LOCALE.get(),
+                   key.getId(), key.getHandle(), params);
+    }
   }
 
   /**
-   * Generates a error message.
+   * Logs the message of the given key with one parameter.
+   * 
+   * The parameter is only boxed into an array if the message is logged.
    * 
    * @param caller Class that created the message.
    * 
-   * @param err Error from which the error message should be created.
+   * @param key Key of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
    */
-  public synchronized void error(Object caller, Exception err) {
-    writeErrorMessage(Level.ERROR, caller, err);
+  public void log(Object caller, MessageKey key, Object p0) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+
+    if (isEnabled(log4j, key.getLevel())) {
+      writeMessage(log4j, key.getLevel(), key.getId(), key.getHandle(), new Object[] {p0});
+    }
   }
 
   /**
-   * Generates a error message.
+   * Logs the message of the given key with two parameters.
+   * 
+   * The parameters are only boxed into an array if the message is logged.
    * 
    * @param caller Class that created the message.
    * 
-   * @param message The error message to be logged.
+   * @param key Key of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
    */
-  public synchronized void error(Object caller, String message) {
-    LogManager.getLogger(caller.getClass().getName()).error(message);
+  public void log(Object caller, MessageKey key, Object p0, Object p1) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+
+    if (isEnabled(log4j, key.getLevel())) {
+      writeMessage(log4j, key.getLevel(), key.getId(), key.getHandle(), new Object[] {p0, p1});
+    }
   }
 
   /**
-   * Generates a fatal error message
+   * Logs the message of the given key with three parameters.
+   * 
+   * The parameters are only boxed into an array if the message is logged.
    * 
    * @param caller Class that created the message.
    * 
-   * @param id ID of the message to be logged.
+   * @param key Key of the message to be logged.
    * 
-   * @param params Parameters to be passed to the message.
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
    */
-  public synchronized void fatal(Object caller, String id, Object[] params) {
-    log(Level.FATAL, caller, id, params);
+  public void log(Object caller, MessageKey key, Object p0, Object p1, Object p2) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+
+    if (isEnabled(log4j, key.getLevel())) {
+      writeMessage(log4j, key.getLevel(), key.getId(), key.getHandle(), new Object[] {p0, p1, p2});
+    }
+  }
+
+  /**
+   * Logs the message of the given key with four parameters.
+   * 
+   * The parameters are only boxed into an array if the message is logged.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param key Key of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   * 
+   * @param p3 Fourth parameter to be passed to the message.
+   */
+  public void log(Object caller, MessageKey key, Object p0, Object p1, Object p2, Object p3) {
+    org.apache.logging.log4j.Logger log4j = getLog4jLogger(caller);
+
+    if (isEnabled(log4j, key.getLevel())) {
+      writeMessage(log4j, key.getLevel(), key.getId(), key.getHandle(), new Object[] {p0, p1, p2, p3});
+    }
+  }
+
+  /**
+   * Resolves the message with the given ID and writes it to log4j.
+   * 
+   * The message is only formatted when an appender writes it.
+   * 
+   * @param log4j The log4j logger of the class that created the message.
+   * 
+   * @param level Level of the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  private void writeMessage(org.apache.logging.log4j.Logger log4j, Level level, String id, Object[] params) {
+    writeMessage(log4j, level, id, MessageCatalog.handle(id), params);
+  }
+
+  /**
+   * Resolves the message with the given ID and writes it to log4j.
+   * 
+   * @param log4j The log4j logger of the class that created the message.
+   * 
+   * @param level Level of the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param handle Handle of the ID in the message catalog.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  private void writeMessage(org.apache.logging.log4j.Logger log4j, Level level,
+                            String id, int handle, Object[] params) {
+    writeMessage(log4j, level, THREAD_LOCALE.get(), id, handle, params);
+  }
+
+  /**
+   * Resolves the message with the given ID in the given locale and writes it
+   * to log4j.
+   * 
+   * If the messages of the locale can not be loaded, the messages of the
+   * default locale are used. The error is only reported once until the
+   * messages are loaded again.
+   * 
+   * @param log4j The log4j logger of the class that created the message.
+   * 
+   * @param level Level of the message.
+   * 
+   * @param locale Locale of the message or {@code null} for the default
+   * locale.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param handle Handle of the ID in the message catalog.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  private void writeMessage(org.apache.logging.log4j.Logger log4j, Level level,
+                            Locale locale, String id, int handle, Object[] params) {
+    MessageTemplate template = null;
+    CombinedResourceBundle bundle = messages.join();
+    if (bundle != null) {
+      MessageCatalog catalog;
+      try {
+        catalog = bundle.getCatalog(locale);
+      } catch (MissingResourceException | UncheckedIOException e) {
+        error(this, "The messages of the locale '" + locale + "' could not be loaded, "
+                    + "the messages of the default locale are used: " + e.getMessage());
+        catalog = bundle.getCatalog();
+      }
+      template = handle != MessageCatalog.NO_HANDLE ? catalog.get(handle) : catalog.get(id);
+      if (template == null) {
+        error(this, "The resource ID '" + id + "' was not found");
+      }
+    }
+
+    if (template == null) {
+      template = MessageTemplate.compileOrLiteral(id);
+    }
+
+    CatalogMessage message = new CatalogMessage(id, template, params);
+    log4j.log(level, message);
+  }
+
+  /**
+   * Checks whether a message of the given level of the given class would be
+   * logged.
+   * 
+   * Can be used to avoid building the parameters of a message that would be
+   * discarded anyway.
+   * 
+   * @param level Level of the message.
+   * 
+   * @param caller Class that creates the message.
+   * 
+   * @return {@code true}, if the message would be logged. {@code false} if
+   * not.
+   */
+  public boolean isEnabled(Level level, Object caller) {
+    return isEnabled(getLog4jLogger(caller), toLog4jLevel(level));
+  }
+
+  /**
+   * Checks whether debug messages of the given class would be logged.
+   * 
+   * @param caller Class that creates the message.
+   * 
+   * @return {@code true}, if debug messages would be logged. {@code false} if
+   * not.
+   */
+  public boolean isDebugEnabled(Object caller) {
+    return getLog4jLogger(caller).isDebugEnabled();
+  }
+
+  /**
+   * Checks whether information messages of the given class would be logged.
+   * 
+   * @param caller Class that creates the message.
+   * 
+   * @return {@code true}, if information messages would be logged.
+   * {@code false} if not.
+   */
+  public boolean isInfoEnabled(Object caller) {
+    return getLog4jLogger(caller).isInfoEnabled();
+  }
+
+  /**
+   * Returns the metrics of the logger.
+   * 
+   * @return The metrics or {@code null}, if they are not collected (see
+   * {@link #setMetrics(boolean)}).
+   */
+  public LoggerMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Returns the number of errors that have been suppressed.
+   * 
+   * @return Number of suppressed errors.
+   */
+  private long getSuppressedCount() {
+    return errorSuppression != null ? errorSuppression.getSuppressedCount() : 0;
+  }
+
+  /**
+   * Sets the level of the messages of a class until it is reset.
+   * 
+   * The level takes effect immediately, the appenders are not created again.
+   * The text file receives all messages of the class that pass the new
+   * level. The other appenders keep their levels. If the messages are
+   * written asynchronously, the messages of the class are written directly.
+   * 
+   * @param caller Class whose level is changed.
+   * 
+   * @param level The new level.
+   */
+  public void setLevel(Class<?> caller, Level level) {
+    setLevel(caller.getName(), level, 0);
+  }
+
+  /**
+   * Sets the level of the messages of a class for a limited time.
+   * 
+   * Useful to get the debug messages of a single class during an incident.
+   * After the duration the class gets its old level back.
+   * 
+   * @param caller Class whose level is changed.
+   * 
+   * @param level The new level.
+   * 
+   * @param duration Time in milliseconds after which the old level is used
+   * again. {@code 0} or less keeps the level until it is reset.
+   */
+  public void setLevel(Class<?> caller, Level level, long duration) {
+    setLevel(caller.getName(), level, duration);
+  }
+
+  /**
+   * Sets the level of the messages of a logger for a limited time.
+   * 
+   * Like {@link #setLevel(Class, Level, long)}, the text file receives all
+   * messages of the logger that pass the new level. The root logger keeps
+   * its appenders and their levels.
+   * 
+   * @param name Name of the logger, e.g. a package name. The level applies
+   * to all classes whose names start with it. The empty string stands for
+   * the root logger.
+   * 
+   * @param level The new level.
+   * 
+   * @param duration Time in milliseconds after which the old level is used
+   * again. {@code 0} or less keeps the level until it is reset.
+   */
+  public void setLevel(String name, Level level, long duration) {
+    levelOverrides.set(name, level, duration);
+  }
+
+  /**
+   * Resets the level of the messages of a class.
+   * 
+   * @param caller Class whose level is reset.
+   */
+  public void resetLevel(Class<?> caller) {
+    resetLevel(caller.getName());
+  }
+
+  /**
+   * Resets the level of the messages of a logger.
+   * 
+   * @param name Name of the logger.
+   */
+  public void resetLevel(String name) {
+    levelOverrides.clear(name);
+  }
+
+  /**
+   * Resets the levels of all classes and loggers that have been changed.
+   */
+  public void resetLevels() {
+    levelOverrides.clearAll();
+  }
+
+  /**
+   * Returns the log4j logger of the given class.
+   * 
+   * The logger is only looked up on the first call of a class, after that it
+   * is read from the cache.
+   * 
+   * @param caller Class that creates the message.
+   * 
+   * @return The log4j logger of the class.
+   */
+  private org.apache.logging.log4j.Logger getLog4jLogger(Object caller) {
+    return log4jLoggers.get(caller.getClass());
+  }
+
+  /**
+   * Determines the level used to write a message to log4j.
+   * 
+   * {@link Level#ALL} is not a level for messages, so it is written as
+   * {@link Level#TRACE}.
+   * 
+   * @param level Level of the message.
+   * 
+   * @return Level used to write the message.
+   */
+  private static Level toLog4jLevel(Level level) {
+    return level == Level.ALL ? Level.TRACE : level;
+  }
+
+  /**
+   * Checks whether log4j would write a message of the given level.
+   * 
+   * {@link Level#OFF} is not a level for messages, so such messages are never
+   * written. log4j itself would accept them for every configuration.
+   * 
+   * @param log4j Logger of log4j that writes the message.
+   * 
+   * @param level Level of the message.
+   * 
+   * @return {@code true}, if the message would be written. {@code false} if
+   * not.
+   */
+  private static boolean isEnabled(org.apache.logging.log4j.Logger log4j, Level level) {
+    return level != Level.OFF && log4j.isEnabled(level);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void debug(Object caller, String id, Object[] params) {
+    log(Level.DEBUG, caller, id, params);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, Object p0, Object p1) {
+    log(Level.DEBUG, caller, id, p0, p1);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, Object p0, Object p1, Object p2) {
+    log(Level.DEBUG, caller, id, p0, p1, p2);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   * 
+   * @param p3 Fourth parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, Object p0, Object p1, Object p2, Object p3) {
+    log(Level.DEBUG, caller, id, p0, p1, p2, p3);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, int p0) {
+    log(Level.DEBUG, caller, id, p0);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, long p0) {
+    log(Level.DEBUG, caller, id, p0);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, double p0) {
+    log(Level.DEBUG, caller, id, p0);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, boolean p0) {
+    log(Level.DEBUG, caller, id, p0);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * A single {@code String} parameter selects
+   * {@link #debug(Object, String, String)} instead, so pass it as
+   * {@code (Object) value}.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void debug(Object caller, String id, Object p0) {
+    log(Level.DEBUG, caller, id, p0);
+  }
+
+  /**
+   * Generates a debug message with the name and the content of a variable.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param variableName Name of the variable.
+   * 
+   * @param variableValue Content of the variable.
+   */
+  public void debugVariable(Object caller, String variableName, String variableValue) {
+    log(caller, DebugSelection.KEY_DEBUG_OUT, variableName, variableValue);
+  }
+
+  /**
+   * Generates a debug message with the name and the content of a variable.
+   * 
+   * Unlike the other {@code debug} methods the second parameter is not the ID
+   * of a message: {@code debug(caller, id, "text")} logs the message
+   * {@link DebugSelection#DEBUG_OUT} with the ID as name of the variable.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param variableName Name of the variable.
+   * 
+   * @param variableValue Content of the variable.
+   * 
+   * @deprecated Use {@link #debugVariable(Object, String, String)} for a
+   * variable or {@link #debug(Object, String, Object)} with
+   * {@code (Object) value} for a message with a text parameter.
+   */
+  @Deprecated
+  public void debug(Object caller, String variableName, String variableValue) {
+    debugVariable(caller, variableName, variableValue);
+  }
+
+  /**
+   * Generates a debug message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void debug(Object caller, String message) {
+    log(Level.DEBUG, caller, message);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void info(Object caller, String id, Object[] params) {
+    log(Level.INFO, caller, id, params);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, Object p0) {
+    log(Level.INFO, caller, id, p0);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, Object p0, Object p1) {
+    log(Level.INFO, caller, id, p0, p1);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, Object p0, Object p1, Object p2) {
+    log(Level.INFO, caller, id, p0, p1, p2);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   * 
+   * @param p3 Fourth parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, Object p0, Object p1, Object p2, Object p3) {
+    log(Level.INFO, caller, id, p0, p1, p2, p3);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, int p0) {
+    log(Level.INFO, caller, id, p0);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, long p0) {
+    log(Level.INFO, caller, id, p0);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, double p0) {
+    log(Level.INFO, caller, id, p0);
+  }
+
+  /**
+   * Generates an information message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void info(Object caller, String id, boolean p0) {
+    log(Level.INFO, caller, id, p0);
+  }
+
+  /**
+   * Generates an information mesage.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void info(Object caller, String message) {
+    log(Level.INFO, caller, message);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void warn(Object caller, String id, Object[] params) {
+    log(Level.WARN, caller, id, params);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, Object p0) {
+    log(Level.WARN, caller, id, p0);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, Object p0, Object p1) {
+    log(Level.WARN, caller, id, p0, p1);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, Object p0, Object p1, Object p2) {
+    log(Level.WARN, caller, id, p0, p1, p2);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   * 
+   * @param p3 Fourth parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, Object p0, Object p1, Object p2, Object p3) {
+    log(Level.WARN, caller, id, p0, p1, p2, p3);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, int p0) {
+    log(Level.WARN, caller, id, p0);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, long p0) {
+    log(Level.WARN, caller, id, p0);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, double p0) {
+    log(Level.WARN, caller, id, p0);
+  }
+
+  /**
+   * Generates a warning message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void warn(Object caller, String id, boolean p0) {
+    log(Level.WARN, caller, id, p0);
+  }
+
+  /**
+   * Generates a warninung message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void warn(Object caller, String message) {
+    log(Level.WARN, caller, message);
+  }
+
+  /**
+   * Generates a error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void error(Object caller, String id, Object[] params) {
+    log(Level.ERROR, caller, id, params);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, Object p0) {
+    log(Level.ERROR, caller, id, p0);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, Object p0, Object p1) {
+    log(Level.ERROR, caller, id, p0, p1);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, Object p0, Object p1, Object p2) {
+    log(Level.ERROR, caller, id, p0, p1, p2);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   * 
+   * @param p3 Fourth parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, Object p0, Object p1, Object p2, Object p3) {
+    log(Level.ERROR, caller, id, p0, p1, p2, p3);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, int p0) {
+    log(Level.ERROR, caller, id, p0);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, long p0) {
+    log(Level.ERROR, caller, id, p0);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, double p0) {
+    log(Level.ERROR, caller, id, p0);
+  }
+
+  /**
+   * Generates an error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void error(Object caller, String id, boolean p0) {
+    log(Level.ERROR, caller, id, p0);
+  }
+
+  /**
+   * Generates a error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param err Error from which the error message should be created.
+   */
+  public void error(Object caller, Exception err) {
+    writeErrorMessage(Level.ERROR, caller, err);
+  }
+
+  /**
+   * Generates a error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param message The error message to be logged.
+   */
+  public void error(Object caller, String message) {
+    getLog4jLogger(caller).error(message);
+  }
+
+  /**
+   * Generates a fatal error message
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param params Parameters to be passed to the message.
+   */
+  public void fatal(Object caller, String id, Object[] params) {
+    log(Level.FATAL, caller, id, params);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, Object p0) {
+    log(Level.FATAL, caller, id, p0);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, Object p0, Object p1) {
+    log(Level.FATAL, caller, id, p0, p1);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, Object p0, Object p1, Object p2) {
+    log(Level.FATAL, caller, id, p0, p1, p2);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 First parameter to be passed to the message.
+   * 
+   * @param p1 Second parameter to be passed to the message.
+   * 
+   * @param p2 Third parameter to be passed to the message.
+   * 
+   * @param p3 Fourth parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, Object p0, Object p1, Object p2, Object p3) {
+    log(Level.FATAL, caller, id, p0, p1, p2, p3);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, int p0) {
+    log(Level.FATAL, caller, id, p0);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, long p0) {
+    log(Level.FATAL, caller, id, p0);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, double p0) {
+    log(Level.FATAL, caller, id, p0);
+  }
+
+  /**
+   * Generates a fatal error message.
+   * 
+   * @param caller Class that created the message.
+   * 
+   * @param id ID of the message to be logged.
+   * 
+   * @param p0 Parameter to be passed to the message.
+   */
+  public void fatal(Object caller, String id, boolean p0) {
+    log(Level.FATAL, caller, id, p0);
   }
 
   /**
@@ -535,7 +2625,7 @@ public class Logger {
    * 
    * @param err Error from which the error message should be created.
    */
-  public synchronized void fatal(Object caller, Exception err) {
+  public void fatal(Object caller, Exception err) {
     writeErrorMessage(Level.FATAL, caller, err);
   }
 
@@ -546,7 +2636,7 @@ public class Logger {
    * 
    * @param message The error message to be logged.
    */
-  public synchronized void fatal(Object caller, String message) {
-    LogManager.getLogger(caller.getClass().getName()).fatal(message);
+  public void fatal(Object caller, String message) {
+    getLog4jLogger(caller).fatal(message);
   }
 }
@@ -0,0 +1,280 @@
+package de.rene_majewski.logger.appender;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+
+import de.rene_majewski.logger.metrics.WrittenBytes;
+
+/**
+ * Writes the messages into a file in batches.
+ *
+ * The layout encodes each message directly into direct buffers of
+ * {@value #CHUNK_SIZE} bytes. The buffers are written into the file with one
+ * gathering write when
+ * <ul>
+ *   <li>all buffers are full, i.e. after {@code bufferSize} bytes,</li>
+ *   <li>a message of the flush level or a more severe level was appended
+ *   or</li>
+ *   <li>{@link #flush()} is called (see {@link PeriodicFlush}) or the
+ *   appender is stopped.</li>
+ * </ul>
+ * So messages of many threads are written with few system calls. If the
+ * process crashes, the messages since the last write are lost.
+ *
+ * The buffers are only allocated when they are needed.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@Plugin(name = "BatchedFile", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class BatchedFileAppender extends AbstractAppender
+    implements ByteBufferDestination, Flushable, WrittenBytes {
+  /**
+   * Default number of bytes that are collected before they are written.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+  /**
+   * Size in bytes of a single buffer.
+   */
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  /**
+   * Channel of the file.
+   */
+  private final FileChannel channel;
+
+  /**
+   * Messages of this level or a more severe level are written at once.
+   */
+  private final Level flushLevel;
+
+  /**
+   * The buffers.
+   */
+  private final ByteBuffer[] chunks;
+
+  /**
+   * Index of the buffer into which is currently written.
+   */
+  private int current;
+
+  /**
+   * Number of bytes that have been written into the file.
+   */
+  private long written;
+
+  /**
+   * Initializes the appender.
+   *
+   * @param name Name of the appender.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @param layout Layout of the messages.
+   *
+   * @param channel Channel of the file.
+   *
+   * @param bufferSize Number of bytes that are collected before they are
+   * written.
+   *
+   * @param flushLevel Messages of this level or a more severe level are
+   * written at once.
+   */
+  private BatchedFileAppender(String name, Filter filter,
+                              Layout<? extends Serializable> layout,
+                              FileChannel channel, int bufferSize, Level flushLevel) {
+    super(name, filter, layout, true, Property.EMPTY_ARRAY);
+    this.channel = channel;
+    this.flushLevel = flushLevel;
+    this.chunks = new ByteBuffer[Math.max((bufferSize + CHUNK_SIZE - 1) / CHUNK_SIZE, 1)];
+    this.chunks[0] = ByteBuffer.allocateDirect(CHUNK_SIZE);
+  }
+
+  /**
+   * Creates the appender from the configuration.
+   *
+   * @param name Name of the appender.
+   *
+   * @param fileName Name of the file.
+   *
+   * @param append Should the messages be appended to an existing file?
+   *
+   * @param bufferSize Number of bytes that are collected before they are
+   * written.
+   *
+   * @param flushLevel Messages of this level or a more severe level are
+   * written at once. {@code OFF} writes no message at once.
+   *
+   * @param layout Layout of the messages.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @return The created appender or {@code null}, if the file could not be
+   * opened.
+   */
+  @PluginFactory
+  public static BatchedFileAppender createAppender(
+      @PluginAttribute("name") String name,
+      @PluginAttribute("fileName") String fileName,
+      @PluginAttribute(value = "append", defaultBoolean = true) boolean append,
+      @PluginAttribute(value = "bufferSize", defaultInt = DEFAULT_BUFFER_SIZE) int bufferSize,
+      @PluginAttribute(value = "flushLevel", defaultString = "ERROR") String flushLevel,
+      @PluginElement("Layout") Layout<? extends Serializable> layout,
+      @PluginElement("Filter") Filter filter) {
+    try {
+      Path path = Paths.get(fileName);
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+
+      FileChannel channel;
+      if (append) {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.APPEND);
+      } else {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+      }
+
+      return new BatchedFileAppender(name, filter, layout, channel, bufferSize,
+                                     Level.toLevel(flushLevel, Level.ERROR));
+    } catch (IOException e) {
+      LOGGER.error("Could not open the file {} for the appender {}", fileName, name, e);
+      return null;
+    }
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    synchronized (this) {
+      getLayout().encode(event, this);
+
+      if (event.getLevel().isMoreSpecificThan(flushLevel)) {
+        write();
+      }
+    }
+  }
+
+  @Override
+  public ByteBuffer getByteBuffer() {
+    return chunks[current];
+  }
+
+  @Override
+  public ByteBuffer drain(ByteBuffer buf) {
+    if (current + 1 < chunks.length) {
+      current++;
+      if (chunks[current] == null) {
+        chunks[current] = ByteBuffer.allocateDirect(CHUNK_SIZE);
+      }
+    } else {
+      write();
+    }
+    return chunks[current];
+  }
+
+  @Override
+  public void writeBytes(ByteBuffer data) {
+    synchronized (this) {
+      ByteBufferDestinationHelper.writeToUnsynchronized(data, this);
+    }
+  }
+
+  @Override
+  public void writeBytes(byte[] data, int offset, int length) {
+    synchronized (this) {
+      ByteBufferDestinationHelper.writeToUnsynchronized(data, offset, length, this);
+    }
+  }
+
+  /**
+   * Writes the filled buffers into the file with one gathering write.
+   */
+  private void write() {
+    int count = current + 1;
+    if (current == 0 && chunks[0].position() == 0) {
+      return;
+    }
+
+    long remaining = 0;
+    for (int i = 0; i < count; i++) {
+      chunks[i].flip();
+      remaining += chunks[i].remaining();
+    }
+
+    try {
+      while (remaining > 0) {
+        long bytes = channel.write(chunks, 0, count);
+        written += bytes;
+        remaining -= bytes;
+      }
+    } catch (IOException e) {
+      error("Could not write the file", e);
+    }
+
+    for (int i = 0; i < count; i++) {
+      chunks[i].clear();
+    }
+    current = 0;
+  }
+
+  @Override
+  public synchronized long getWrittenBytes() {
+    long buffered = 0;
+    for (int i = 0; i <= current; i++) {
+      buffered += chunks[i].position();
+    }
+    return written + buffered;
+  }
+
+  /**
+   * Writes the collected messages into the file.
+   */
+  @Override
+  public synchronized void flush() {
+    write();
+  }
+
+  @Override
+  public boolean stop(long timeout, TimeUnit timeUnit) {
+    setStopping();
+    boolean stopped = super.stop(timeout, timeUnit, false);
+
+    synchronized (this) {
+      write();
+      try {
+        channel.close();
+      } catch (IOException e) {
+        error("Could not close the file", e);
+      }
+    }
+
+    setStopped();
+    return stopped;
+  }
+}
@@ -0,0 +1,505 @@
+package de.rene_majewski.logger.appender;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.message.Message;
+
+import de.rene_majewski.logger.metrics.WrittenBytes;
+import de.rene_majewski.logger.utils.CatalogMessage;
+
+/**
+ * Writes the messages in a compact binary format.
+ *
+ * Instead of the formatted text the appender writes the parts of a message:
+ * the time as difference to the previous message, the level as one byte, the
+ * ID, the pattern and the parameters of the message. Names of loggers and
+ * threads, IDs, patterns and locales are written only once and afterwards
+ * referenced by their number. So neither dates nor messages are formatted
+ * while logging. {@link BinaryLogDecoder} converts the file back into the
+ * text of the text file.
+ *
+ * The file starts with the bytes {@code RMLB}, the version of the format and
+ * the time of the start in milliseconds. It is followed by records, each
+ * starting with its type:
+ * <ul>
+ *   <li>{@code 1}: a string, which gets the next free number, starting at
+ *   {@code 0}.</li>
+ *   <li>{@code 2}: a message of the message catalog: time, level, logger,
+ *   thread, ID, pattern, locale, parameters and stack trace.</li>
+ *   <li>{@code 3}: any other message: time, level, logger, thread, text and
+ *   stack trace.</li>
+ * </ul>
+ *
+ * Numbers are written as variable length integers. Numbers, dates, booleans
+ * and {@code null} keep their type, all other parameters are written as
+ * text.
+ *
+ * The records are collected in a buffer, which is written when it is full,
+ * on {@link #flush()} (see {@link PeriodicFlush}) and when the appender is
+ * stopped.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@Plugin(name = "BinaryLog", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class BinaryLogAppender extends AbstractAppender implements Flushable, WrittenBytes {
+  /**
+   * Default size in bytes of the buffer.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * First bytes of the file.
+   */
+  static final byte[] MAGIC = {'R', 'M', 'L', 'B'};
+
+  /**
+   * Version of the format.
+   */
+  static final int VERSION = 1;
+
+  /**
+   * Type of a record that defines a string.
+   */
+  static final int RECORD_STRING = 1;
+
+  /**
+   * Type of a record that contains a message of the message catalog.
+   */
+  static final int RECORD_CATALOG = 2;
+
+  /**
+   * Type of a record that contains any other message.
+   */
+  static final int RECORD_TEXT = 3;
+
+  /**
+   * Type of a {@code null} parameter.
+   */
+  static final int PARAM_NULL = 0;
+
+  /**
+   * Type of a text parameter.
+   */
+  static final int PARAM_STRING = 1;
+
+  /**
+   * Type of an integer parameter ({@link Byte}, {@link Short},
+   * {@link Integer} or {@link Long}).
+   */
+  static final int PARAM_LONG = 2;
+
+  /**
+   * Type of a floating point parameter ({@link Float} or {@link Double}) or
+   * of another {@link Number} whose text is not a decimal number.
+   */
+  static final int PARAM_DOUBLE = 3;
+
+  /**
+   * Type of a boolean parameter.
+   */
+  static final int PARAM_BOOLEAN = 4;
+
+  /**
+   * Type of a {@link Date} parameter.
+   */
+  static final int PARAM_DATE = 5;
+
+  /**
+   * Type of a {@link BigInteger} parameter.
+   */
+  static final int PARAM_BIG_INTEGER = 6;
+
+  /**
+   * Type of a {@link BigDecimal} parameter or of another {@link Number}
+   * whose text is a decimal number.
+   */
+  static final int PARAM_BIG_DECIMAL = 7;
+
+  /**
+   * Channel of the file.
+   */
+  private final FileChannel channel;
+
+  /**
+   * Records that have not been written yet.
+   */
+  private final ByteBuffer buffer;
+
+  /**
+   * Numbers of the strings that have been written.
+   */
+  private final Map<String, Integer> strings;
+
+  /**
+   * Time of the previous message in milliseconds.
+   */
+  private long lastTime;
+
+  /**
+   * Number of bytes that have been written into the file.
+   */
+  private long written;
+
+  /**
+   * Initializes the appender.
+   *
+   * @param name Name of the appender.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @param channel Channel of the file.
+   *
+   * @param bufferSize Size in bytes of the buffer.
+   */
+  private BinaryLogAppender(String name, Filter filter, FileChannel channel, int bufferSize) {
+    super(name, filter, null, true, Property.EMPTY_ARRAY);
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocate(Math.max(bufferSize, 64));
+    this.strings = new HashMap<>();
+    this.lastTime = System.currentTimeMillis();
+
+    buffer.put(MAGIC).put((byte) VERSION).putLong(lastTime);
+  }
+
+  /**
+   * Creates the appender from the configuration.
+   *
+   * @param name Name of the appender.
+   *
+   * @param fileName Name of the file.
+   *
+   * @param bufferSize Size in bytes of the buffer.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @return The created appender or {@code null}, if the file could not be
+   * opened.
+   */
+  @PluginFactory
+  public static BinaryLogAppender createAppender(
+      @PluginAttribute("name") String name,
+      @PluginAttribute("fileName") String fileName,
+      @PluginAttribute(value = "bufferSize", defaultInt = DEFAULT_BUFFER_SIZE) int bufferSize,
+      @PluginElement("Filter") Filter filter) {
+    try {
+      Path path = Paths.get(fileName);
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                             StandardOpenOption.TRUNCATE_EXISTING);
+      return new BinaryLogAppender(name, filter, channel, bufferSize);
+    } catch (IOException e) {
+      LOGGER.error("Could not open the file {} for the appender {}", fileName, name, e);
+      return null;
+    }
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    Message message = event.getMessage();
+    String thrown = null;
+    if (event.getThrown() != null) {
+      StringWriter trace = new StringWriter();
+      event.getThrown().printStackTrace(new PrintWriter(trace));
+      thrown = trace.toString();
+    }
+
+    synchronized (this) {
+      try {
+        int logger = string(event.getLoggerName());
+        int thread = string(event.getThreadName());
+
+        if (message instanceof CatalogMessage) {
+          CatalogMessage catalog = (CatalogMessage) message;
+          int id = string(catalog.getId());
+          int pattern = string(catalog.getFormat());
+          int locale = string(catalog.getLocale().toLanguageTag());
+          Object[] params = catalog.getParameters();
+
+          writeHeader(RECORD_CATALOG, event, logger, thread);
+          writeVarInt(id);
+          writeVarInt(pattern);
+          writeVarInt(locale);
+          if (params == null) {
+            writeVarInt(0);
+          } else {
+            writeVarInt(params.length + 1);
+            for (Object param : params) {
+              writeParam(param);
+            }
+          }
+        } else {
+          writeHeader(RECORD_TEXT, event, logger, thread);
+          writeString(message.getFormattedMessage());
+        }
+
+        writeString(thrown != null ? thrown : "");
+      } catch (IOException e) {
+        error("Could not write the message", e);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of a string and writes the string, if it has not been
+   * written yet.
+   *
+   * @param value The string.
+   *
+   * @return Number of the string.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private int string(String value) throws IOException {
+    String key = value != null ? value : "";
+    Integer number = strings.get(key);
+    if (number == null) {
+      number = strings.size();
+      strings.put(key, number);
+      ensure(1);
+      buffer.put((byte) RECORD_STRING);
+      writeString(key);
+    }
+    return number;
+  }
+
+  /**
+   * Writes the beginning of a message record.
+   *
+   * @param type Type of the record.
+   *
+   * @param event The message.
+   *
+   * @param logger Number of the name of the logger.
+   *
+   * @param thread Number of the name of the thread.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void writeHeader(int type, LogEvent event, int logger, int thread) throws IOException {
+    long time = event.getTimeMillis();
+    ensure(2);
+    buffer.put((byte) type);
+    writeVarLong(zigZag(time - lastTime));
+    lastTime = time;
+    ensure(1);
+    buffer.put((byte) event.getLevel().getStandardLevel().ordinal());
+    writeVarInt(logger);
+    writeVarInt(thread);
+  }
+
+  /**
+   * Writes a parameter with its type.
+   *
+   * @param param The parameter.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void writeParam(Object param) throws IOException {
+    ensure(9);
+    if (param == null) {
+      buffer.put((byte) PARAM_NULL);
+    } else if (param instanceof Long || param instanceof Integer
+               || param instanceof Short || param instanceof Byte) {
+      buffer.put((byte) PARAM_LONG);
+      writeVarLong(zigZag(((Number) param).longValue()));
+    } else if (param instanceof Double || param instanceof Float) {
+      buffer.put((byte) PARAM_DOUBLE);
+      buffer.putDouble(((Number) param).doubleValue());
+    } else if (param instanceof Boolean) {
+      buffer.put((byte) PARAM_BOOLEAN);
+      buffer.put((byte) (((Boolean) param) ? 1 : 0));
+    } else if (param instanceof Date) {
+      buffer.put((byte) PARAM_DATE);
+      buffer.putLong(((Date) param).getTime());
+    } else if (param instanceof BigInteger) {
+      buffer.put((byte) PARAM_BIG_INTEGER);
+      writeString(param.toString());
+    } else if (param instanceof BigDecimal) {
+      buffer.put((byte) PARAM_BIG_DECIMAL);
+      writeString(param.toString());
+    } else if (param instanceof Number) {
+      writeNumber((Number) param);
+    } else {
+      buffer.put((byte) PARAM_STRING);
+      writeString(String.valueOf(param));
+    }
+  }
+
+  /**
+   * Writes a number of another type (e.g. {@code AtomicLong} or
+   * {@code LongAdder}) as a number, so the decoder formats it like the text
+   * file does.
+   *
+   * @param number The number.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void writeNumber(Number number) throws IOException {
+    BigDecimal decimal;
+    try {
+      decimal = new BigDecimal(number.toString());
+    } catch (NumberFormatException e) {
+      buffer.put((byte) PARAM_DOUBLE);
+      buffer.putDouble(number.doubleValue());
+      return;
+    }
+
+    buffer.put((byte) PARAM_BIG_DECIMAL);
+    writeString(decimal.toString());
+  }
+
+  /**
+   * Writes a string as length and UTF-8 bytes.
+   *
+   * @param value The string.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void writeString(String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(bytes.length);
+
+    int offset = 0;
+    while (offset < bytes.length) {
+      if (!buffer.hasRemaining()) {
+        drain();
+      }
+      int length = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, length);
+      offset += length;
+    }
+  }
+
+  /**
+   * Writes an integer that is not negative with a variable length.
+   *
+   * @param value The integer.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void writeVarInt(int value) throws IOException {
+    writeVarLong(value & 0xffffffffL);
+  }
+
+  /**
+   * Writes an integer with a variable length: 7 bits per byte, the highest
+   * bit marks that another byte follows.
+   *
+   * @param value The integer, interpreted as unsigned.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void writeVarLong(long value) throws IOException {
+    ensure(10);
+    while ((value & ~0x7fL) != 0) {
+      buffer.put((byte) ((value & 0x7f) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Maps a signed integer to an unsigned one, so small negative values
+   * stay short.
+   *
+   * @param value The signed integer.
+   *
+   * @return The unsigned integer.
+   */
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * Writes the buffer, if it has less than the given number of bytes left.
+   *
+   * @param bytes Number of bytes that are needed.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void ensure(int bytes) throws IOException {
+    if (buffer.remaining() < bytes) {
+      drain();
+    }
+  }
+
+  /**
+   * Writes the buffer into the file.
+   *
+   * @throws IOException If the buffer could not be written.
+   */
+  private void drain() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      written += channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  @Override
+  public synchronized long getWrittenBytes() {
+    return written + buffer.position();
+  }
+
+  /**
+   * Writes the buffered records into the file.
+   */
+  @Override
+  public synchronized void flush() {
+    try {
+      drain();
+    } catch (IOException e) {
+      error("Could not write the file", e);
+    }
+  }
+
+  @Override
+  public boolean stop(long timeout, TimeUnit timeUnit) {
+    setStopping();
+    boolean stopped = super.stop(timeout, timeUnit, false);
+
+    synchronized (this) {
+      try {
+        drain();
+        channel.close();
+      } catch (IOException e) {
+        error("Could not close the file", e);
+      }
+    }
+
+    setStopped();
+    return stopped;
+  }
+}
@@ -0,0 +1,342 @@
+package de.rene_majewski.logger.appender;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.logging.log4j.spi.StandardLevel;
+
+import de.rene_majewski.logger.utils.CachedDatePatternConverter;
+import de.rene_majewski.logger.utils.CachedTimestamp;
+import de.rene_majewski.logger.utils.MessageTemplate;
+
+/**
+ * Converts a file of the {@link BinaryLogAppender} into the text of the text
+ * file.
+ *
+ * Each message is written as
+ * {@code dd.MM.yyyy HH:mm:ss:SSS LEVEL [thread] logger: message}, like the
+ * text file does. The messages of the message catalog are formatted with the
+ * pattern and the locale that were used when they were logged, so the
+ * message catalog is not needed. If a pattern can not format its
+ * parameters, the pattern is written followed by the parameters.
+ *
+ * Usage:
+ * <pre>
+ * java -cp logger.jar de.rene_majewski.logger.appender.BinaryLogDecoder production.bin [production.txt]
+ * </pre>
+ * Without a second file the text is written to the standard output.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class BinaryLogDecoder {
+  /**
+   * Format of the time of a message.
+   */
+  private static final CachedTimestamp TIME_FORMAT =
+    new CachedTimestamp(CachedDatePatternConverter.DEFAULT_PATTERN, ZoneId.systemDefault());
+
+  /**
+   * The file to be read.
+   */
+  private final DataInputStream in;
+
+  /**
+   * Strings in the order of their numbers.
+   */
+  private final List<String> strings;
+
+  /**
+   * Compiled templates by the numbers of their pattern and locale.
+   */
+  private final Map<Long, MessageTemplate> templates;
+
+  /**
+   * Time of the previous message in milliseconds.
+   */
+  private long lastTime;
+
+  /**
+   * Initializes the decoder and reads the beginning of the file.
+   *
+   * @param in The file to be read.
+   *
+   * @throws IOException If the file could not be read or is not a file of the
+   * {@link BinaryLogAppender}.
+   */
+  public BinaryLogDecoder(InputStream in) throws IOException {
+    this.in = new DataInputStream(new BufferedInputStream(in));
+    this.strings = new ArrayList<>();
+    this.templates = new HashMap<>();
+
+    byte[] magic = new byte[BinaryLogAppender.MAGIC.length];
+    this.in.readFully(magic);
+    if (!Arrays.equals(magic, BinaryLogAppender.MAGIC)) {
+      throw new IOException("The file is not a binary log");
+    }
+
+    int version = this.in.readUnsignedByte();
+    if (version != BinaryLogAppender.VERSION) {
+      throw new IOException("Unsupported version " + version + " of the binary log");
+    }
+
+    lastTime = this.in.readLong();
+  }
+
+  /**
+   * Converts the whole file.
+   *
+   * @param in The file to be read.
+   *
+   * @param out Receives the text.
+   *
+   * @return Number of converted messages.
+   *
+   * @throws IOException If the file could not be read or the text could not
+   * be written. An {@link EOFException} means that the file ends within a
+   * record; all messages before have been written.
+   */
+  public static long decode(InputStream in, Writer out) throws IOException {
+    BinaryLogDecoder decoder = new BinaryLogDecoder(in);
+    StringBuilder line = new StringBuilder(256);
+    long count = 0;
+    while (decoder.next(line)) {
+      out.append(line);
+      line.setLength(0);
+      count++;
+    }
+    out.flush();
+    return count;
+  }
+
+  /**
+   * Reads the next message and appends its text.
+   *
+   * @param buffer Buffer to which the text of the message is appended,
+   * including the line separator.
+   *
+   * @return {@code true}, if a message was read, {@code false} at the end of
+   * the file.
+   *
+   * @throws IOException If the file could not be read.
+   */
+  public boolean next(StringBuilder buffer) throws IOException {
+    while (true) {
+      int type = in.read();
+      switch (type) {
+        case -1:
+          return false;
+        case BinaryLogAppender.RECORD_STRING:
+          strings.add(readString());
+          break;
+        case BinaryLogAppender.RECORD_CATALOG:
+        case BinaryLogAppender.RECORD_TEXT:
+          readMessage(type, buffer);
+          return true;
+        default:
+          throw new IOException("Unknown record " + type + " in the binary log");
+      }
+    }
+  }
+
+  /**
+   * Reads a message and appends its text.
+   *
+   * @param type Type of the record.
+   *
+   * @param buffer Buffer to which the text is appended.
+   *
+   * @throws IOException If the file could not be read.
+   */
+  private void readMessage(int type, StringBuilder buffer) throws IOException {
+    lastTime += unZigZag(readVarLong());
+    StandardLevel level = StandardLevel.values()[in.readUnsignedByte()];
+    String logger = string(readVarInt());
+    String thread = string(readVarInt());
+
+    TIME_FORMAT.formatTo(lastTime, buffer);
+    buffer.append(' ').append(level.name());
+    for (int i = level.name().length(); i < 5; i++) {
+      buffer.append(' ');
+    }
+    buffer.append(" [").append(thread).append("] ").append(logger).append(": ");
+
+    if (type == BinaryLogAppender.RECORD_CATALOG) {
+      readVarInt();
+      int pattern = readVarInt();
+      int locale = readVarInt();
+      int count = readVarInt();
+
+      MessageTemplate template = templates.computeIfAbsent(
+        ((long) pattern << 32) | locale,
+        key -> MessageTemplate.compileOrLiteral(string(pattern), Locale.forLanguageTag(string(locale))));
+
+      if (count == 0) {
+        buffer.append(template.getPattern());
+      } else {
+        Object[] params = new Object[count - 1];
+        for (int i = 0; i < params.length; i++) {
+          params[i] = readParam();
+        }
+
+        int start = buffer.length();
+        try {
+          template.formatTo(buffer, params);
+        } catch (IllegalArgumentException e) {
+          buffer.setLength(start);
+          buffer.append(template.getPattern()).append(' ').append(Arrays.toString(params));
+        }
+      }
+    } else {
+      buffer.append(readString());
+    }
+
+    buffer.append(System.lineSeparator());
+    buffer.append(readString());
+  }
+
+  /**
+   * Reads a parameter.
+   *
+   * @return The parameter.
+   *
+   * @throws IOException If the file could not be read.
+   */
+  private Object readParam() throws IOException {
+    int type = in.readUnsignedByte();
+    switch (type) {
+      case BinaryLogAppender.PARAM_NULL:
+        return null;
+      case BinaryLogAppender.PARAM_STRING:
+        return readString();
+      case BinaryLogAppender.PARAM_LONG:
+        return unZigZag(readVarLong());
+      case BinaryLogAppender.PARAM_DOUBLE:
+        return in.readDouble();
+      case BinaryLogAppender.PARAM_BOOLEAN:
+        return in.readUnsignedByte() != 0;
+      case BinaryLogAppender.PARAM_DATE:
+        return new Date(in.readLong());
+      case BinaryLogAppender.PARAM_BIG_INTEGER:
+        return new BigInteger(readString());
+      case BinaryLogAppender.PARAM_BIG_DECIMAL:
+        return new BigDecimal(readString());
+      default:
+        throw new IOException("Unknown parameter type " + type + " in the binary log");
+    }
+  }
+
+  /**
+   * Returns the string with the given number.
+   *
+   * @param number Number of the string.
+   *
+   * @return The string.
+   */
+  private String string(int number) {
+    if (number >= strings.size()) {
+      throw new IllegalStateException("The string " + number + " is not defined in the binary log");
+    }
+    return strings.get(number);
+  }
+
+  /**
+   * Reads a string that was written as length and UTF-8 bytes.
+   *
+   * @return The string.
+   *
+   * @throws IOException If the file could not be read.
+   */
+  private String readString() throws IOException {
+    byte[] bytes = new byte[readVarInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads an integer of variable length that is not negative.
+   *
+   * @return The integer.
+   *
+   * @throws IOException If the file could not be read.
+   */
+  private int readVarInt() throws IOException {
+    return (int) readVarLong();
+  }
+
+  /**
+   * Reads an integer of variable length.
+   *
+   * @return The integer.
+   *
+   * @throws IOException If the file could not be read.
+   */
+  private long readVarLong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Invalid number in the binary log");
+  }
+
+  /**
+   * Reverses the mapping of signed to unsigned integers.
+   *
+   * @param value The unsigned integer.
+   *
+   * @return The signed integer.
+   */
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Converts a binary log into text.
+   *
+   * @param args The binary log and optionally the text file to be written.
+   *
+   * @throws IOException If a file could not be read or written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1 || args.length > 2) {
+      System.err.println("Usage: BinaryLogDecoder <binary log> [<text file>]");
+      System.exit(2);
+    }
+
+    try (InputStream in = Files.newInputStream(Paths.get(args[0]));
+         Writer out = new BufferedWriter(args.length > 1
+           ? Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)
+           : new OutputStreamWriter(System.out, StandardCharsets.UTF_8))) {
+      try {
+        decode(in, out);
+      } catch (EOFException e) {
+        out.flush();
+        System.err.println("The binary log ends within a message");
+      }
+    }
+  }
+}
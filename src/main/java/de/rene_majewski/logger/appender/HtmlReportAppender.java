@@ -0,0 +1,344 @@
+package de.rene_majewski.logger.appender;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.message.Message;
+
+import de.rene_majewski.logger.metrics.WrittenBytes;
+import de.rene_majewski.logger.utils.CachedDatePatternConverter;
+import de.rene_majewski.logger.utils.CachedTimestamp;
+import de.rene_majewski.logger.utils.CatalogMessage;
+
+/**
+ * Writes the messages as rows of an HTML report.
+ *
+ * The rows are collected in memory and written in batches. After each batch
+ * the closing tags of the document are written again behind the last row, so
+ * the file is a complete HTML document after every batch and not only when
+ * the appender is stopped. At most one batch is kept in memory.
+ *
+ * Besides the report an index file is written. It contains one line per row
+ * with the ID of the message (e.g. {@code E001}) and the position of the row
+ * in the report in bytes, separated by a tab. Messages without an ID have the
+ * ID {@code -}. A viewer can use the index to jump to a row without parsing
+ * the whole report.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@Plugin(name = "HtmlReport", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class HtmlReportAppender extends AbstractAppender implements Flushable, WrittenBytes {
+  /**
+   * Default number of rows per batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 64;
+
+  /**
+   * Format of the time of a message.
+   */
+  private static final CachedTimestamp TIME_FORMAT =
+    new CachedTimestamp(CachedDatePatternConverter.DEFAULT_PATTERN, ZoneId.systemDefault());
+
+  /**
+   * Closing tags of the document.
+   */
+  private static final byte[] TRAILER =
+    "</table>\n</body>\n</html>\n".getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Channel of the report.
+   */
+  private final FileChannel report;
+
+  /**
+   * Channel of the index.
+   */
+  private final FileChannel index;
+
+  /**
+   * Number of rows per batch.
+   */
+  private final int batchSize;
+
+  /**
+   * Rows of the current batch.
+   */
+  private final ByteArrayOutputStream rows;
+
+  /**
+   * Index lines of the current batch.
+   */
+  private final StringBuilder indexLines;
+
+  /**
+   * Number of rows in the current batch.
+   */
+  private int batchRows;
+
+  /**
+   * Position in the report behind the last written row.
+   */
+  private long rowsEnd;
+
+  /**
+   * Initializes the appender.
+   *
+   * @param name Name of the appender.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @param report Channel of the report.
+   *
+   * @param index Channel of the index.
+   *
+   * @param batchSize Number of rows per batch.
+   *
+   * @param title Title of the report.
+   *
+   * @throws IOException If the beginning of the report could not be written.
+   */
+  private HtmlReportAppender(String name, Filter filter, FileChannel report,
+                             FileChannel index, int batchSize, String title)
+      throws IOException {
+    super(name, filter, null, true, Property.EMPTY_ARRAY);
+    this.report = report;
+    this.index = index;
+    this.batchSize = Math.max(batchSize, 1);
+    this.rows = new ByteArrayOutputStream();
+    this.indexLines = new StringBuilder();
+
+    StringBuilder header = new StringBuilder();
+    header.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\"/>\n<title>");
+    escape(header, title);
+    header.append("</title>\n<style type=\"text/css\">\n");
+    header.append("body, table {font-family: arial, sans-serif; font-size: 12pt;}\n");
+    header.append("th {background: #336699; color: #ffffff; text-align: left;}\n");
+    header.append("td {vertical-align: top;}\n");
+    header.append("pre {margin: 0;}\n");
+    header.append(".WARN {color: #993300;}\n.ERROR, .FATAL {color: #cc0000;}\n");
+    header.append("</style>\n</head>\n<body>\n<table cellspacing=\"0\" cellpadding=\"4\" border=\"1\">\n");
+    header.append("<tr><th>Time</th><th>Level</th><th>Thread</th><th>Logger</th><th>ID</th><th>Message</th></tr>\n");
+
+    byte[] bytes = header.toString().getBytes(StandardCharsets.UTF_8);
+    write(report, ByteBuffer.wrap(bytes));
+    rowsEnd = bytes.length;
+    write(report, ByteBuffer.wrap(TRAILER));
+  }
+
+  /**
+   * Creates the appender from the configuration.
+   *
+   * @param name Name of the appender.
+   *
+   * @param fileName Name of the report.
+   *
+   * @param indexFileName Name of the index. If not set, {@code .idx} is
+   * appended to the name of the report.
+   *
+   * @param batchSize Number of rows per batch.
+   *
+   * @param title Title of the report.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @return The created appender or {@code null}, if a file could not be
+   * opened.
+   */
+  @PluginFactory
+  public static HtmlReportAppender createAppender(
+      @PluginAttribute("name") String name,
+      @PluginAttribute("fileName") String fileName,
+      @PluginAttribute("indexFileName") String indexFileName,
+      @PluginAttribute(value = "batchSize", defaultInt = DEFAULT_BATCH_SIZE) int batchSize,
+      @PluginAttribute(value = "title", defaultString = "Error-Report") String title,
+      @PluginElement("Filter") Filter filter) {
+    FileChannel report = null;
+    try {
+      Path path = Paths.get(fileName);
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+
+      report = open(path);
+      FileChannel index = open(Paths.get(indexFileName != null ? indexFileName : fileName + ".idx"));
+      return new HtmlReportAppender(name, filter, report, index, batchSize, title);
+    } catch (IOException e) {
+      LOGGER.error("Could not open the file {} for the appender {}", fileName, name, e);
+      if (report != null) {
+        try {
+          report.close();
+        } catch (IOException ex) {
+          e.addSuppressed(ex);
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Opens a file for writing and removes its old content.
+   *
+   * @param path Path of the file.
+   *
+   * @return Channel of the file.
+   *
+   * @throws IOException If the file could not be opened.
+   */
+  private static FileChannel open(Path path) throws IOException {
+    return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                            StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  /**
+   * Writes the whole buffer into the channel at its current position.
+   *
+   * @param channel Channel of the file.
+   *
+   * @param buffer Data to be written.
+   *
+   * @throws IOException If the data could not be written.
+   */
+  private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Appends the text to the buffer and replaces the HTML special characters.
+   *
+   * @param buffer Buffer to which the text is appended.
+   *
+   * @param text Text to be appended.
+   */
+  private static void escape(StringBuilder buffer, CharSequence text) {
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      switch (ch) {
+        case '<':
+          buffer.append("&lt;");
+          break;
+        case '>':
+          buffer.append("&gt;");
+          break;
+        case '&':
+          buffer.append("&amp;");
+          break;
+        case '"':
+          buffer.append("&quot;");
+          break;
+        default:
+          buffer.append(ch);
+      }
+    }
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    Message message = event.getMessage();
+    String id = message instanceof CatalogMessage ? ((CatalogMessage) message).getId() : "-";
+
+    StringBuilder text = new StringBuilder(message.getFormattedMessage());
+    if (event.getThrown() != null) {
+      StringWriter trace = new StringWriter();
+      event.getThrown().printStackTrace(new PrintWriter(trace));
+      text.append(System.lineSeparator()).append(trace);
+    }
+
+    StringBuilder row = new StringBuilder(128 + text.length());
+    row.append("<tr class=\"").append(event.getLevel()).append("\"><td>");
+    TIME_FORMAT.formatTo(event.getTimeMillis(), row);
+    row.append("</td><td>").append(event.getLevel()).append("</td><td>");
+    escape(row, event.getThreadName());
+    row.append("</td><td>");
+    escape(row, event.getLoggerName());
+    row.append("</td><td>");
+    escape(row, id);
+    row.append("</td><td><pre>");
+    escape(row, text);
+    row.append("</pre></td></tr>\n");
+    byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+
+    synchronized (this) {
+      indexLines.append(id).append('\t').append(rowsEnd + rows.size()).append('\n');
+      rows.write(bytes, 0, bytes.length);
+      batchRows++;
+
+      if (batchRows >= batchSize) {
+        flush();
+      }
+    }
+  }
+
+  @Override
+  public synchronized long getWrittenBytes() {
+    return rowsEnd + TRAILER.length;
+  }
+
+  /**
+   * Writes the rows of the current batch and the closing tags.
+   */
+  @Override
+  public synchronized void flush() {
+    if (batchRows == 0) {
+      return;
+    }
+
+    try {
+      report.position(rowsEnd);
+      write(report, ByteBuffer.wrap(rows.toByteArray()));
+      rowsEnd += rows.size();
+      write(report, ByteBuffer.wrap(TRAILER));
+      write(index, StandardCharsets.UTF_8.encode(indexLines.toString()));
+    } catch (IOException e) {
+      error("Could not write the report", e);
+    }
+
+    rows.reset();
+    indexLines.setLength(0);
+    batchRows = 0;
+  }
+
+  @Override
+  public boolean stop(long timeout, TimeUnit timeUnit) {
+    setStopping();
+    boolean stopped = super.stop(timeout, timeUnit, false);
+
+    synchronized (this) {
+      flush();
+      try {
+        report.close();
+        index.close();
+      } catch (IOException e) {
+        error("Could not close the report", e);
+      }
+    }
+
+    setStopped();
+    return stopped;
+  }
+}
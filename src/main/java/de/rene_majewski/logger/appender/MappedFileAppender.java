@@ -0,0 +1,294 @@
+package de.rene_majewski.logger.appender;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+
+import de.rene_majewski.logger.metrics.WrittenBytes;
+
+/**
+ * Writes the messages into a memory mapped region of a file.
+ *
+ * The layout encodes each message directly into the mapped region, so no
+ * stream and no intermediate byte array is involved. If the region is full,
+ * the next region of the file is mapped. The mapped data is only forced to
+ * disk by {@link #flush()} (see {@link PeriodicFlush}) and when the appender
+ * is stopped, never by a logging thread. Full regions wait in a queue until
+ * they are forced; if nobody calls {@link #flush()}, only the last
+ * {@value #MAX_RETIRED} of them are kept and the older ones are left to the
+ * operating system. At the end the file is truncated to the written length.
+ *
+ * If the next region can not be mapped, the error is reported and the
+ * following messages are dropped.
+ *
+ * Old regions are not unmapped explicitly, they are released by the garbage
+ * collector. This works on every Java version without access to JDK
+ * internals.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@Plugin(name = "MappedFile", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class MappedFileAppender extends AbstractAppender
+    implements ByteBufferDestination, Flushable, WrittenBytes {
+  /**
+   * Default size in bytes of a mapped region.
+   */
+  public static final int DEFAULT_REGION_LENGTH = 32 * 1024 * 1024;
+
+  /**
+   * Maximum number of full regions that wait to be forced.
+   */
+  private static final int MAX_RETIRED = 8;
+
+  /**
+   * Size in bytes of the buffer that receives the dropped messages.
+   */
+  private static final int DISCARD_LENGTH = 8 * 1024;
+
+  /**
+   * Channel of the file.
+   */
+  private final FileChannel channel;
+
+  /**
+   * Size in bytes of a mapped region.
+   */
+  private final int regionLength;
+
+  /**
+   * The region into which is currently written.
+   */
+  private volatile MappedByteBuffer region;
+
+  /**
+   * Full regions that have not been forced to disk yet.
+   */
+  private final Queue<MappedByteBuffer> retired;
+
+  /**
+   * Receives the messages that are dropped, because the next region could
+   * not be mapped, or {@code null}, if the messages are written.
+   */
+  private ByteBuffer discard;
+
+  /**
+   * Position of the current region in the file.
+   */
+  private long regionStart;
+
+  /**
+   * Position in the file at which the writing started.
+   */
+  private final long start;
+
+  /**
+   * Initializes the appender.
+   *
+   * @param name Name of the appender.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @param layout Layout of the messages.
+   *
+   * @param channel Channel of the file.
+   *
+   * @param start Position in the file at which the writing starts.
+   *
+   * @param regionLength Size in bytes of a mapped region.
+   *
+   * @throws IOException If the first region could not be mapped.
+   */
+  private MappedFileAppender(String name, Filter filter,
+                             Layout<? extends Serializable> layout,
+                             FileChannel channel, long start, int regionLength)
+      throws IOException {
+    super(name, filter, layout, true, Property.EMPTY_ARRAY);
+    this.channel = channel;
+    this.regionLength = regionLength;
+    this.start = start;
+    this.retired = new ConcurrentLinkedQueue<>();
+    this.region = map(start);
+  }
+
+  /**
+   * Creates the appender from the configuration.
+   *
+   * @param name Name of the appender.
+   *
+   * @param fileName Name of the file.
+   *
+   * @param append Should the messages be appended to an existing file?
+   *
+   * @param regionLength Size in bytes of a mapped region.
+   *
+   * @param layout Layout of the messages.
+   *
+   * @param filter Filter of the appender or {@code null}.
+   *
+   * @return The created appender or {@code null}, if the file could not be
+   * opened.
+   */
+  @PluginFactory
+  public static MappedFileAppender createAppender(
+      @PluginAttribute("name") String name,
+      @PluginAttribute("fileName") String fileName,
+      @PluginAttribute(value = "append", defaultBoolean = true) boolean append,
+      @PluginAttribute(value = "regionLength", defaultInt = DEFAULT_REGION_LENGTH) int regionLength,
+      @PluginElement("Layout") Layout<? extends Serializable> layout,
+      @PluginElement("Filter") Filter filter) {
+    try {
+      Path path = Paths.get(fileName);
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                                             StandardOpenOption.READ,
+                                             StandardOpenOption.WRITE);
+      long start = 0;
+      if (append) {
+        start = channel.size();
+      } else {
+        channel.truncate(0);
+      }
+
+      return new MappedFileAppender(name, filter, layout, channel, start, regionLength);
+    } catch (IOException e) {
+      LOGGER.error("Could not open the file {} for the appender {}", fileName, name, e);
+      return null;
+    }
+  }
+
+  /**
+   * Maps the region that starts at the given position of the file.
+   *
+   * @param start Position in the file.
+   *
+   * @return The mapped region.
+   *
+   * @throws IOException If the region could not be mapped.
+   */
+  private MappedByteBuffer map(long start) throws IOException {
+    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, start, regionLength);
+    regionStart = start;
+    return mapped;
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    synchronized (this) {
+      if (discard == null) {
+        getLayout().encode(event, this);
+      }
+    }
+  }
+
+  @Override
+  public ByteBuffer getByteBuffer() {
+    return discard != null ? discard : region;
+  }
+
+  @Override
+  public ByteBuffer drain(ByteBuffer buf) {
+    if (buf.hasRemaining()) {
+      return buf;
+    }
+
+    if (discard != null) {
+      discard.clear();
+      return discard;
+    }
+
+    try {
+      MappedByteBuffer full = region;
+      region = map(regionStart + full.position());
+      retired.add(full);
+      while (retired.size() > MAX_RETIRED) {
+        retired.poll();
+      }
+    } catch (IOException e) {
+      error("Could not map the next region, the following messages are dropped", e);
+      discard = ByteBuffer.allocate(DISCARD_LENGTH);
+      return discard;
+    }
+    return region;
+  }
+
+  @Override
+  public void writeBytes(ByteBuffer data) {
+    synchronized (this) {
+      ByteBufferDestinationHelper.writeToUnsynchronized(data, this);
+    }
+  }
+
+  @Override
+  public void writeBytes(byte[] data, int offset, int length) {
+    synchronized (this) {
+      ByteBufferDestinationHelper.writeToUnsynchronized(data, offset, length, this);
+    }
+  }
+
+  @Override
+  public synchronized long getWrittenBytes() {
+    return regionStart + region.position() - start;
+  }
+
+  /**
+   * Forces the written data to disk.
+   *
+   * The messages are not blocked while the data is forced.
+   */
+  @Override
+  public void flush() {
+    MappedByteBuffer full;
+    while ((full = retired.poll()) != null) {
+      full.force();
+    }
+    region.force();
+  }
+
+  @Override
+  public boolean stop(long timeout, TimeUnit timeUnit) {
+    setStopping();
+    boolean stopped = super.stop(timeout, timeUnit, false);
+
+    synchronized (this) {
+      try {
+        flush();
+        channel.truncate(regionStart + region.position());
+        channel.close();
+      } catch (IOException e) {
+        error("Could not close the file", e);
+      }
+    }
+
+    setStopped();
+    return stopped;
+  }
+}
@@ -0,0 +1,66 @@
+package de.rene_majewski.logger.appender;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Flushes the output of an appender at a fixed interval.
+ *
+ * Used for appenders that do not flush after each message, e.g. the memory
+ * mapped text file. Their data is forced to disk by a background thread, so
+ * the logging threads never wait for the disk.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class PeriodicFlush {
+  /**
+   * Thread that flushes the appender.
+   */
+  private final ScheduledExecutorService executor;
+
+  /**
+   * Starts flushing the given appender.
+   *
+   * @param name Name of the appender.
+   *
+   * @param appender Appender to be flushed.
+   *
+   * @param interval Interval in milliseconds.
+   */
+  public PeriodicFlush(String name, Flushable appender, long interval) {
+    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "logger-flush-" + name);
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleAtFixedRate(() -> {
+      try {
+        appender.flush();
+      } catch (IOException | RuntimeException e) {
+        StatusLogger.getLogger().error("Could not flush the appender {}", name, e);
+      }
+    }, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops flushing the appender.
+   *
+   * Waits until a running flush is finished, so the appender can be stopped
+   * afterwards.
+   */
+  public void close() {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
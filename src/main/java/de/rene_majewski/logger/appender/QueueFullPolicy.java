@@ -0,0 +1,27 @@
+package de.rene_majewski.logger.appender;
+
+/**
+ * Specifies what happens to a message if the queue of the asynchronous
+ * logging is full.
+ * 
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public enum QueueFullPolicy {
+  /**
+   * The calling thread waits until there is space in the queue again.
+   */
+  BLOCK,
+
+  /**
+   * Messages whose level is at or below the discard level are dropped. All
+   * other messages wait until there is space in the queue again.
+   */
+  DISCARD_BELOW_LEVEL,
+
+  /**
+   * The oldest message in the queue is dropped to make room for the new one.
+   */
+  DISCARD_OLDEST
+}
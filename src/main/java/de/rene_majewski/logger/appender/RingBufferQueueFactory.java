@@ -0,0 +1,157 @@
+package de.rene_majewski.logger.appender;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.BlockingQueueFactory;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+
+/**
+ * Creates the bounded ring buffer that hands the messages of the asynchronous
+ * logging over to the background writer.
+ *
+ * The log4j {@code Async} appender first offers each message to the queue.
+ * If the queue refuses the message, the appender waits until there is space
+ * again. The queue applies the {@link QueueFullPolicy} in {@code offer}, so
+ * dropped messages never block the calling thread.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@Plugin(name = "RingBufferQueue", category = Node.CATEGORY, elementType = BlockingQueueFactory.ELEMENT_TYPE)
+public final class RingBufferQueueFactory implements BlockingQueueFactory<LogEvent> {
+  /**
+   * Counts the messages that were dropped because the queue was full.
+   */
+  private static final LongAdder DROPPED = new LongAdder();
+
+  /**
+   * What happens to a message if the queue is full?
+   */
+  private final QueueFullPolicy policy;
+
+  /**
+   * Messages at or below this level are dropped if the policy is
+   * {@link QueueFullPolicy#DISCARD_BELOW_LEVEL}.
+   */
+  private final Level discardLevel;
+
+  /**
+   * Initializes the factory.
+   *
+   * @param policy What happens to a message if the queue is full?
+   *
+   * @param discardLevel Messages at or below this level are dropped if the
+   * policy is {@link QueueFullPolicy#DISCARD_BELOW_LEVEL}.
+   */
+  private RingBufferQueueFactory(QueueFullPolicy policy, Level discardLevel) {
+    this.policy = policy;
+    this.discardLevel = discardLevel;
+  }
+
+  /**
+   * Creates the factory from the configuration.
+   *
+   * @param policy Name of the {@link QueueFullPolicy}. If not specified,
+   * {@link QueueFullPolicy#BLOCK} is used.
+   *
+   * @param discardLevel Messages at or below this level are dropped if the
+   * policy is {@link QueueFullPolicy#DISCARD_BELOW_LEVEL}. If not specified,
+   * {@link Level#INFO} is used.
+   *
+   * @return The created factory.
+   */
+  @PluginFactory
+  public static RingBufferQueueFactory createFactory(
+      @PluginAttribute("policy") String policy,
+      @PluginAttribute("discardLevel") String discardLevel) {
+    return new RingBufferQueueFactory(
+      policy == null ? QueueFullPolicy.BLOCK : QueueFullPolicy.valueOf(policy),
+      Level.toLevel(discardLevel, Level.INFO)
+    );
+  }
+
+  /**
+   * Returns the number of messages that were dropped because the queue was
+   * full.
+   *
+   * @return Number of dropped messages.
+   */
+  public static long getDroppedCount() {
+    return DROPPED.sum();
+  }
+
+  @Override
+  public BlockingQueue<LogEvent> create(int capacity) {
+    return new RingBufferQueue(capacity, policy, discardLevel);
+  }
+
+  /**
+   * Array based queue that applies the {@link QueueFullPolicy}.
+   */
+  private static final class RingBufferQueue extends ArrayBlockingQueue<LogEvent> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * What happens to a message if the queue is full?
+     */
+    private final QueueFullPolicy policy;
+
+    /**
+     * Messages at or below this level are dropped if the policy is
+     * {@link QueueFullPolicy#DISCARD_BELOW_LEVEL}.
+     */
+    private final Level discardLevel;
+
+    /**
+     * Initializes the queue.
+     *
+     * @param capacity Maximum number of messages in the queue.
+     *
+     * @param policy What happens to a message if the queue is full?
+     *
+     * @param discardLevel Messages at or below this level are dropped if the
+     * policy is {@link QueueFullPolicy#DISCARD_BELOW_LEVEL}.
+     */
+    private RingBufferQueue(int capacity, QueueFullPolicy policy, Level discardLevel) {
+      super(capacity);
+      this.policy = policy;
+      this.discardLevel = discardLevel;
+    }
+
+    @Override
+    public boolean offer(LogEvent event) {
+      if (super.offer(event)) {
+        return true;
+      }
+
+      switch (policy) {
+        case DISCARD_BELOW_LEVEL:
+          Level level = event.getLevel();
+          if (level != null && level.isLessSpecificThan(discardLevel)) {
+            DROPPED.increment();
+            return true;
+          }
+          return false;
+
+        case DISCARD_OLDEST:
+          do {
+            if (poll() != null) {
+              DROPPED.increment();
+            }
+          } while (!super.offer(event));
+          return true;
+
+        default:
+          return false;
+      }
+    }
+  }
+}
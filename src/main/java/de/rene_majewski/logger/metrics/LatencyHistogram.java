@@ -0,0 +1,140 @@
+package de.rene_majewski.logger.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Histogram of durations that can be recorded by several threads without
+ * locking.
+ *
+ * Like an HDR histogram the values are sorted into buckets whose width grows
+ * with the value: each power of two is split into {@value #SUB_BUCKETS}
+ * buckets of the same width. So every value is known with a relative error
+ * of at most about 6 percent, while the histogram has a fixed size of a few
+ * kilobytes. Recording a value only increments one counter.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class LatencyHistogram {
+  /**
+   * Number of bits of a value that select the bucket within a power of two.
+   */
+  private static final int SUB_BITS = 4;
+
+  /**
+   * Number of buckets per power of two.
+   */
+  private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+  /**
+   * Counters of the buckets.
+   */
+  private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+
+  /**
+   * The largest recorded value.
+   */
+  private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos Duration in nanoseconds. Negative values are recorded as 0.
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    buckets.incrementAndGet(index(value));
+    max.accumulate(value);
+  }
+
+  /**
+   * Returns the number of recorded durations.
+   *
+   * @return Number of recorded durations.
+   */
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      count += buckets.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the largest recorded duration.
+   *
+   * @return The largest duration in nanoseconds.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns the duration below which the given share of the recorded
+   * durations lies.
+   *
+   * @param percentile Share in percent, e.g. {@code 99} for the p99.
+   *
+   * @return Upper bound of the bucket that contains the percentile in
+   * nanoseconds or {@code 0}, if nothing has been recorded.
+   */
+  public long getPercentile(double percentile) {
+    long[] counts = new long[buckets.length()];
+    long total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= Math.max(rank, 1)) {
+        return Math.min(upperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Returns the bucket of a value.
+   *
+   * @param value A value that is not negative.
+   *
+   * @return Index of the bucket.
+   */
+  private static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  /**
+   * Returns the largest value of a bucket.
+   *
+   * @param index Index of the bucket.
+   *
+   * @return The largest value that belongs to the bucket.
+   */
+  private static long upperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+
+    int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+    long sub = index % SUB_BUCKETS;
+    long width = 1L << (exponent - SUB_BITS);
+    return (1L << exponent) + (sub + 1) * width - 1;
+  }
+}
@@ -0,0 +1,280 @@
+package de.rene_majewski.logger.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractOutputStreamAppender;
+import org.apache.logging.log4j.core.appender.FileManager;
+import org.apache.logging.log4j.core.appender.OutputStreamManager;
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.spi.StandardLevel;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import de.rene_majewski.logger.appender.RingBufferQueueFactory;
+
+/**
+ * Collects the metrics of the logger.
+ *
+ * The events are counted by a filter of the root logger, which never
+ * rejects an event. Counting an event increments two {@link LongAdder}s, so
+ * the threads that log at the same time do not compete for a counter. The
+ * time that the appenders need is measured by {@link MeteredAppender}s.
+ *
+ * The metrics can be polled through the getters or read through JMX with the
+ * name {@value #OBJECT_NAME}.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class LoggerMetrics implements LoggerMetricsMXBean {
+  /**
+   * Name under which the metrics are registered in JMX.
+   */
+  public static final String OBJECT_NAME = "de.rene_majewski.logger:type=LoggerMetrics";
+
+  /**
+   * Number of events per level, indexed by the ordinal of the
+   * {@link StandardLevel}.
+   */
+  private final LongAdder[] levels;
+
+  /**
+   * Number of events per logger name.
+   */
+  private final Map<String, LongAdder> callers;
+
+  /**
+   * Returns the number of suppressed errors.
+   */
+  private final LongSupplier suppressed;
+
+  /**
+   * Filter that counts the events.
+   */
+  private final CountingFilter filter;
+
+  /**
+   * Initializes the metrics.
+   *
+   * @param suppressed Returns the number of suppressed errors.
+   */
+  public LoggerMetrics(LongSupplier suppressed) {
+    this.levels = new LongAdder[StandardLevel.values().length];
+    for (int i = 0; i < levels.length; i++) {
+      levels[i] = new LongAdder();
+    }
+    this.callers = new ConcurrentHashMap<>();
+    this.suppressed = suppressed;
+    this.filter = new CountingFilter();
+  }
+
+  /**
+   * Returns the filter that counts the events.
+   *
+   * It has to be added to the root logger.
+   *
+   * @return The filter that counts the events.
+   */
+  public AbstractFilter getFilter() {
+    return filter;
+  }
+
+  /**
+   * Registers the metrics in JMX.
+   *
+   * Metrics that were registered before are replaced.
+   */
+  public void register() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(this, name);
+    } catch (JMException e) {
+      StatusLogger.getLogger().error("Could not register the metrics of the logger", e);
+    }
+  }
+
+  /**
+   * Removes the metrics from JMX.
+   */
+  public void unregister() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+    } catch (JMException e) {
+      StatusLogger.getLogger().error("Could not unregister the metrics of the logger", e);
+    }
+  }
+
+  @Override
+  public Map<String, Long> getEventsPerLevel() {
+    Map<String, Long> result = new TreeMap<>();
+    for (StandardLevel level : StandardLevel.values()) {
+      long count = levels[level.ordinal()].sum();
+      if (count > 0) {
+        result.put(level.name(), count);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of logged events of a level.
+   *
+   * @param level The level.
+   *
+   * @return Number of events.
+   */
+  public long getEvents(Level level) {
+    return levels[level.getStandardLevel().ordinal()].sum();
+  }
+
+  @Override
+  public Map<String, Long> getEventsPerCaller() {
+    Map<String, Long> result = new TreeMap<>();
+    callers.forEach((name, count) -> result.put(name, count.sum()));
+    return result;
+  }
+
+  @Override
+  public long getDroppedEvents() {
+    return RingBufferQueueFactory.getDroppedCount();
+  }
+
+  @Override
+  public long getSuppressedErrors() {
+    return suppressed.getAsLong();
+  }
+
+  @Override
+  public Map<String, Long> getWrittenBytes() {
+    Map<String, Long> result = new TreeMap<>();
+    for (Appender appender : getAppenders().values()) {
+      if (appender instanceof MeteredAppender) {
+        continue;
+      }
+
+      long bytes = writtenBytes(appender);
+      if (bytes >= 0) {
+        result.put(appender.getName(), bytes);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Map<String, Long> getWrittenEvents() {
+    return collect(LatencyHistogram::getCount);
+  }
+
+  @Override
+  public Map<String, Long> getWriteLatency(double percentile) {
+    return collect(histogram -> histogram.getPercentile(percentile));
+  }
+
+  @Override
+  public Map<String, Long> getMaxWriteLatency() {
+    return collect(LatencyHistogram::getMax);
+  }
+
+  /**
+   * Reads a value of the histogram of each measured appender.
+   *
+   * @param value Reads the value of a histogram.
+   *
+   * @return The values by the name of the measured appender.
+   */
+  private static Map<String, Long> collect(ToLongFunction<LatencyHistogram> value) {
+    Map<String, Long> result = new TreeMap<>();
+    for (Appender appender : getAppenders().values()) {
+      if (appender instanceof MeteredAppender) {
+        MeteredAppender metered = (MeteredAppender) appender;
+        Appender measured = metered.getAppender();
+        result.put(measured != null ? measured.getName() : metered.getName(),
+                   value.applyAsLong(metered.getLatency()));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the appenders of the current configuration.
+   *
+   * @return The appenders by name.
+   */
+  private static Map<String, Appender> getAppenders() {
+    return ((LoggerContext) LogManager.getContext(false)).getConfiguration().getAppenders();
+  }
+
+  /**
+   * Determines the number of bytes that an appender has written.
+   *
+   * @param appender The appender.
+   *
+   * @return Number of written bytes or {@code -1}, if it is not known.
+   */
+  private static long writtenBytes(Appender appender) {
+    if (appender instanceof WrittenBytes) {
+      return ((WrittenBytes) appender).getWrittenBytes();
+    }
+
+    if (appender instanceof AbstractOutputStreamAppender) {
+      OutputStreamManager manager = ((AbstractOutputStreamAppender<?>) appender).getManager();
+      if (manager instanceof RollingFileManager) {
+        return ((RollingFileManager) manager).getFileSize();
+      } else if (manager instanceof FileManager) {
+        try {
+          return Files.size(Paths.get(((FileManager) manager).getFileName()));
+        } catch (IOException e) {
+          return -1;
+        }
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Counts the events that reach the root logger.
+   */
+  private final class CountingFilter extends AbstractFilter {
+    @Override
+    public Result filter(LogEvent event) {
+      levels[event.getLevel().getStandardLevel().ordinal()].increment();
+
+      String name = event.getLoggerName();
+      LongAdder count = callers.get(name);
+      if (count == null) {
+        count = callers.computeIfAbsent(name, key -> new LongAdder());
+      }
+      count.increment();
+
+      return Result.NEUTRAL;
+    }
+  }
+}
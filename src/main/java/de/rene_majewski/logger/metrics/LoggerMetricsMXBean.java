@@ -0,0 +1,77 @@
+package de.rene_majewski.logger.metrics;
+
+import java.util.Map;
+
+/**
+ * Metrics of the logger that can be read through JMX.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public interface LoggerMetricsMXBean {
+  /**
+   * Returns the number of logged events per level.
+   *
+   * @return Number of events by the name of the level.
+   */
+  Map<String, Long> getEventsPerLevel();
+
+  /**
+   * Returns the number of logged events per class.
+   *
+   * @return Number of events by the name of the class that logged them.
+   */
+  Map<String, Long> getEventsPerCaller();
+
+  /**
+   * Returns the number of events that were dropped because the queue of the
+   * asynchronous logging was full.
+   *
+   * @return Number of dropped events.
+   */
+  long getDroppedEvents();
+
+  /**
+   * Returns the number of errors that were suppressed because they were
+   * identical to an error that had been logged before.
+   *
+   * @return Number of suppressed errors.
+   */
+  long getSuppressedErrors();
+
+  /**
+   * Returns the number of bytes that each appender has written.
+   *
+   * For appenders that do not count their bytes, the size of the file they
+   * are currently writing is returned. Appenders without either are
+   * missing.
+   *
+   * @return Number of bytes by the name of the appender.
+   */
+  Map<String, Long> getWrittenBytes();
+
+  /**
+   * Returns the number of events that each appender has written.
+   *
+   * @return Number of events by the name of the appender.
+   */
+  Map<String, Long> getWrittenEvents();
+
+  /**
+   * Returns a percentile of the time that each appender needs to write an
+   * event.
+   *
+   * @param percentile Share in percent, e.g. {@code 99} for the p99.
+   *
+   * @return Duration in nanoseconds by the name of the appender.
+   */
+  Map<String, Long> getWriteLatency(double percentile);
+
+  /**
+   * Returns the longest time that each appender needed to write an event.
+   *
+   * @return Duration in nanoseconds by the name of the appender.
+   */
+  Map<String, Long> getMaxWriteLatency();
+}
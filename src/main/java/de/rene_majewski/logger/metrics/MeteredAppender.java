@@ -0,0 +1,120 @@
+package de.rene_majewski.logger.metrics;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+
+/**
+ * Passes the events to another appender and measures how long it takes.
+ *
+ * The durations are recorded in a {@link LatencyHistogram}.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@Plugin(name = "Metered", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class MeteredAppender extends AbstractAppender {
+  /**
+   * Configuration that contains the measured appender.
+   */
+  private final Configuration config;
+
+  /**
+   * Name of the measured appender.
+   */
+  private final String ref;
+
+  /**
+   * Durations of the writes.
+   */
+  private final LatencyHistogram latency;
+
+  /**
+   * Calls the measured appender.
+   */
+  private volatile AppenderControl control;
+
+  /**
+   * Initializes the appender.
+   *
+   * @param name Name of the appender.
+   *
+   * @param ref Name of the measured appender.
+   *
+   * @param config Configuration that contains the measured appender.
+   */
+  private MeteredAppender(String name, String ref, Configuration config) {
+    super(name, null, null, true, Property.EMPTY_ARRAY);
+    this.ref = ref;
+    this.config = config;
+    this.latency = new LatencyHistogram();
+  }
+
+  /**
+   * Creates the appender from the configuration.
+   *
+   * @param name Name of the appender.
+   *
+   * @param ref Name of the measured appender.
+   *
+   * @param config Configuration that contains the measured appender.
+   *
+   * @return The created appender.
+   */
+  @PluginFactory
+  public static MeteredAppender createAppender(
+      @PluginAttribute("name") String name,
+      @PluginAttribute("ref") String ref,
+      @PluginConfiguration Configuration config) {
+    return new MeteredAppender(name, ref, config);
+  }
+
+  /**
+   * Returns the measured appender.
+   *
+   * @return The measured appender or {@code null}, if it does not exist.
+   */
+  public Appender getAppender() {
+    AppenderControl current = control;
+    return current != null ? current.getAppender() : config.getAppender(ref);
+  }
+
+  /**
+   * Returns the durations of the writes.
+   *
+   * @return Histogram of the durations.
+   */
+  public LatencyHistogram getLatency() {
+    return latency;
+  }
+
+  @Override
+  public void start() {
+    Appender appender = config.getAppender(ref);
+    if (appender == null) {
+      LOGGER.error("The appender {} measured by {} does not exist", ref, getName());
+    } else {
+      control = new AppenderControl(appender, null, null);
+    }
+    super.start();
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    AppenderControl current = control;
+    if (current != null) {
+      long start = System.nanoTime();
+      current.callAppender(event);
+      latency.record(System.nanoTime() - start);
+    }
+  }
+}
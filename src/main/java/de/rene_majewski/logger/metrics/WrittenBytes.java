@@ -0,0 +1,17 @@
+package de.rene_majewski.logger.metrics;
+
+/**
+ * An appender that counts the bytes it has written.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public interface WrittenBytes {
+  /**
+   * Returns the number of bytes that the appender has written.
+   *
+   * @return Number of written bytes.
+   */
+  long getWrittenBytes();
+}
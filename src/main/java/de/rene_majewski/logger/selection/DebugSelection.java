@@ -1,5 +1,6 @@
 package de.rene_majewski.logger.selection;
 
+import org.apache.logging.log4j.Level;
 
 /**
  * Specifies the selection of debug messages.
@@ -22,6 +23,11 @@ public class DebugSelection extends SelectionAbstract {
    */
   public static final String DEBUG_OUT = "D001";
 
+  /**
+   * Typed key of {@link #DEBUG_OUT}.
+   */
+  public static final MessageKey KEY_DEBUG_OUT = key(DEBUG_OUT, Level.DEBUG);
+
   /**
    * Log the call of a method.
    * 
@@ -34,6 +40,11 @@ public class DebugSelection extends SelectionAbstract {
    */
   public static final String DEBUG_RUN_METHODE = "D002";
 
+  /**
+   * Typed key of {@link #DEBUG_RUN_METHODE}.
+   */
+  public static final MessageKey KEY_DEBUG_RUN_METHODE = key(DEBUG_RUN_METHODE, Level.DEBUG);
+
   /**
    * Logs the click on an item.
    * 
@@ -46,6 +57,11 @@ public class DebugSelection extends SelectionAbstract {
    */
   public static final String DEBUG_CLICK = "D010";
 
+  /**
+   * Typed key of {@link #DEBUG_CLICK}.
+   */
+  public static final MessageKey KEY_DEBUG_CLICK = key(DEBUG_CLICK, Level.DEBUG);
+
   /**
    * Logs that a directory has been created.
    * 
@@ -58,6 +74,11 @@ public class DebugSelection extends SelectionAbstract {
    */
   public static final String DEBUG_PATH_CREATE = "D020";
 
+  /**
+   * Typed key of {@link #DEBUG_PATH_CREATE}.
+   */
+  public static final MessageKey KEY_DEBUG_PATH_CREATE = key(DEBUG_PATH_CREATE, Level.DEBUG);
+
   /**
    * Logs that a directory was not created.
    * 
@@ -70,6 +91,11 @@ public class DebugSelection extends SelectionAbstract {
    */
   public static final String DEBUG_PATH_NOT_CREATE = "D021";
 
+  /**
+   * Typed key of {@link #DEBUG_PATH_NOT_CREATE}.
+   */
+  public static final MessageKey KEY_DEBUG_PATH_NOT_CREATE = key(DEBUG_PATH_NOT_CREATE, Level.DEBUG);
+
   /**
    * Logs that an SQL command was executed.
    * 
@@ -82,6 +108,11 @@ public class DebugSelection extends SelectionAbstract {
    */
   public static final String DEBUG_SQL_EXEC = "D200";
 
+  /**
+   * Typed key of {@link #DEBUG_SQL_EXEC}.
+   */
+  public static final MessageKey KEY_DEBUG_SQL_EXEC = key(DEBUG_SQL_EXEC, Level.DEBUG);
+
   /**
    * Logs that a database table was creted.
    * 
@@ -95,7 +126,12 @@ public class DebugSelection extends SelectionAbstract {
    * The table test was created.
    * CREATE TABLE test(id INTEGER, description TEST)
    */
-  public static String DEBUG_SQL_CREATE_TABLE = "D201";
+  public static final String DEBUG_SQL_CREATE_TABLE = "D201";
+
+  /**
+   * Typed key of {@link #DEBUG_SQL_CREATE_TABLE}.
+   */
+  public static final MessageKey KEY_DEBUG_SQL_CREATE_TABLE = key(DEBUG_SQL_CREATE_TABLE, Level.DEBUG);
 
   /**
    * Logs the SQL command for inserting into a database table.
@@ -111,7 +147,12 @@ public class DebugSelection extends SelectionAbstract {
    * The records were written to the test table.
    * INSERT INTO test(description) VALUES("This is a test")
    */
-  public static String DEBUG_SQL_WRITE_RECORDS = "D202";
+  public static final String DEBUG_SQL_WRITE_RECORDS = "D202";
+
+  /**
+   * Typed key of {@link #DEBUG_SQL_WRITE_RECORDS}.
+   */
+  public static final MessageKey KEY_DEBUG_SQL_WRITE_RECORDS = key(DEBUG_SQL_WRITE_RECORDS, Level.DEBUG);
 
   /**
    * Logs the SQL command to delete a database table.
@@ -126,7 +167,12 @@ public class DebugSelection extends SelectionAbstract {
    * The table test is deleted.
    * DROP TABLE test
    */
-  public static String DEBUG_SQL_DROP_TABLE = "D203";
+  public static final String DEBUG_SQL_DROP_TABLE = "D203";
+
+  /**
+   * Typed key of {@link #DEBUG_SQL_DROP_TABLE}.
+   */
+  public static final MessageKey KEY_DEBUG_SQL_DROP_TABLE = key(DEBUG_SQL_DROP_TABLE, Level.DEBUG);
 
   /**
    * Logs the SQL command for retrieving records from a database table.
@@ -141,5 +187,10 @@ public class DebugSelection extends SelectionAbstract {
    * Data is retrieved from table test.
    * SELECT * FROM test
    */
-  public static String DEBUG_SQL_SELECT_TABLE = "D204"; 
+  public static final String DEBUG_SQL_SELECT_TABLE = "D204";
+
+  /**
+   * Typed key of {@link #DEBUG_SQL_SELECT_TABLE}.
+   */
+  public static final MessageKey KEY_DEBUG_SQL_SELECT_TABLE = key(DEBUG_SQL_SELECT_TABLE, Level.DEBUG);
 }
@@ -1,5 +1,7 @@
 package de.rene_majewski.logger.selection;
 
+import org.apache.logging.log4j.Level;
+
 /**
  * Specifies the selection of error messages.
  * 
@@ -7,7 +9,7 @@ package de.rene_majewski.logger.selection;
  * @since 0.1.0
  * @author René Majewski
  */
-public class ErrorSelection {
+public class ErrorSelection extends SelectionAbstract {
   /**
    * Logs an error.
    * 
@@ -23,4 +25,29 @@ public class ErrorSelection {
    */
   public static final String ERROR = "E001";
 
+  /**
+   * Typed key of {@link #ERROR}.
+   */
+  public static final MessageKey KEY_ERROR = key(ERROR, Level.ERROR);
+
+  /**
+   * Logs how many identical errors were suppressed.
+   * 
+   * The following information must be passed in a string array:
+   * 0: Number of suppressed errors.
+   * 1: Class name of the errors.
+   * 2: Place where the errors were thrown.
+   * 
+   * Example string array: {@code new String[] {"42", "java.io.IOException", "de.rene_majewski.Test.read(Test.java:12)"}}.
+   * 
+   * Example output:
+   * 42 identical errors were suppressed: java.io.IOException at de.rene_majewski.Test.read(Test.java:12)
+   */
+  public static final String ERROR_SUPPRESSED = "E002";
+
+  /**
+   * Typed key of {@link #ERROR_SUPPRESSED}.
+   */
+  public static final MessageKey KEY_ERROR_SUPPRESSED = key(ERROR_SUPPRESSED, Level.ERROR);
+
 }
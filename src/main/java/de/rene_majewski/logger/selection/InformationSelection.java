@@ -1,5 +1,7 @@
 package de.rene_majewski.logger.selection;
 
+import org.apache.logging.log4j.Level;
+
 /**
  * Specifies the selection of information messages.
  * 
@@ -17,6 +19,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String INFO_START_LOGGER = "I001";
 
+  /**
+   * Typed key of {@link #INFO_START_LOGGER}.
+   */
+  public static final MessageKey KEY_INFO_START_LOGGER = key(INFO_START_LOGGER, Level.INFO);
+
   /**
    * Logs the name of the version.
    * 
@@ -29,6 +36,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String LOGGER_INFO_VERSION = "I002";
 
+  /**
+   * Typed key of {@link #LOGGER_INFO_VERSION}.
+   */
+  public static final MessageKey KEY_LOGGER_INFO_VERSION = key(LOGGER_INFO_VERSION, Level.INFO);
+
   /**
    * Logs the branch that was used to compile.
    * 
@@ -41,6 +53,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String LOGGER_INFO_BRANCH = "I003";
 
+  /**
+   * Typed key of {@link #LOGGER_INFO_BRANCH}.
+   */
+  public static final MessageKey KEY_LOGGER_INFO_BRANCH = key(LOGGER_INFO_BRANCH, Level.INFO);
+
   /**
    * Logs the commit that was used to compile.
    * 
@@ -53,6 +70,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String LOGGER_INFO_COMMIT = "I004";
 
+  /**
+   * Typed key of {@link #LOGGER_INFO_COMMIT}.
+   */
+  public static final MessageKey KEY_LOGGER_INFO_COMMIT = key(LOGGER_INFO_COMMIT, Level.INFO);
+
   /**
    * Logs the time at which the app was compiled.
    * 
@@ -65,6 +87,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String LOGGER_INFO_TIMESTAMP = "I005";
 
+  /**
+   * Typed key of {@link #LOGGER_INFO_TIMESTAMP}.
+   */
+  public static final MessageKey KEY_LOGGER_INFO_TIMESTAMP = key(LOGGER_INFO_TIMESTAMP, Level.INFO);
+
   /**
    * Logs the name of the app version.
    * 
@@ -77,6 +104,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String AP_INFO_VERSION = "I006";
 
+  /**
+   * Typed key of {@link #AP_INFO_VERSION}.
+   */
+  public static final MessageKey KEY_AP_INFO_VERSION = key(AP_INFO_VERSION, Level.INFO);
+
   /**
    * Logs the branch that was used to compile the app.
    * 
@@ -89,6 +121,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String AP_INFO_BRANCH = "I007";
 
+  /**
+   * Typed key of {@link #AP_INFO_BRANCH}.
+   */
+  public static final MessageKey KEY_AP_INFO_BRANCH = key(AP_INFO_BRANCH, Level.INFO);
+
   /**
    * Logs the commit that was used to compile the app.
    * 
@@ -101,6 +138,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String AP_INFO_COMMIT = "I008";
 
+  /**
+   * Typed key of {@link #AP_INFO_COMMIT}.
+   */
+  public static final MessageKey KEY_AP_INFO_COMMIT = key(AP_INFO_COMMIT, Level.INFO);
+
   /**
    * Logs the time at which the app was compiled.
    * 
@@ -113,6 +155,11 @@ public class InformationSelection extends SelectionAbstract {
    */
   public static final String AP_INFO_TIMESTAMP = "I009";
 
+  /**
+   * Typed key of {@link #AP_INFO_TIMESTAMP}.
+   */
+  public static final MessageKey KEY_AP_INFO_TIMESTAMP = key(AP_INFO_TIMESTAMP, Level.INFO);
+
   /**
    * Logs that the connection to the database was established.
    * 
@@ -120,7 +167,12 @@ public class InformationSelection extends SelectionAbstract {
    * 
    * Example output: "Connection to the database was established."
    */
-  public static String INFO_SQL_DB_OPEN_CON = "I200";
+  public static final String INFO_SQL_DB_OPEN_CON = "I200";
+
+  /**
+   * Typed key of {@link #INFO_SQL_DB_OPEN_CON}.
+   */
+  public static final MessageKey KEY_INFO_SQL_DB_OPEN_CON = key(INFO_SQL_DB_OPEN_CON, Level.INFO);
 
   /**
    * Logs that the connection to the database could not be established.
@@ -129,7 +181,12 @@ public class InformationSelection extends SelectionAbstract {
    * 
    * Example output: "Connection to the database could not be established."
    */
-  public static String INFO_SQL_DB_NOT_OPEND_CON = "I201";
+  public static final String INFO_SQL_DB_NOT_OPEND_CON = "I201";
+
+  /**
+   * Typed key of {@link #INFO_SQL_DB_NOT_OPEND_CON}.
+   */
+  public static final MessageKey KEY_INFO_SQL_DB_NOT_OPEND_CON = key(INFO_SQL_DB_NOT_OPEND_CON, Level.INFO);
 
   /**
    * Logs that the connection to the database was closed.
@@ -138,6 +195,11 @@ public class InformationSelection extends SelectionAbstract {
    * 
    * Example output: "The connection to the database has ended."
    */
-  public static String INFO_SQL_DB_END_CON = "I202";
+  public static final String INFO_SQL_DB_END_CON = "I202";
+
+  /**
+   * Typed key of {@link #INFO_SQL_DB_END_CON}.
+   */
+  public static final MessageKey KEY_INFO_SQL_DB_END_CON = key(INFO_SQL_DB_END_CON, Level.INFO);
 
 }
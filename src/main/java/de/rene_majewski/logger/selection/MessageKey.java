@@ -0,0 +1,82 @@
+package de.rene_majewski.logger.selection;
+
+import org.apache.logging.log4j.Level;
+
+import de.rene_majewski.logger.utils.MessageCatalog;
+
+/**
+ * Typed key of a message of the catalog.
+ * 
+ * The key carries the ID of the message, its default level and the handle
+ * of the ID in the {@link MessageCatalog}. The handle is computed once when
+ * the key is created, so the logger finds the compiled message by an array
+ * index without hashing the ID.
+ * 
+ * Keys are created by the selection classes, see
+ * {@link SelectionAbstract#key(String, Level)}.
+ * 
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class MessageKey {
+  /**
+   * ID of the message.
+   */
+  private final String id;
+
+  /**
+   * Handle of the ID in the message catalog.
+   */
+  private final int handle;
+
+  /**
+   * Level with which the message is logged.
+   */
+  private final Level level;
+
+  /**
+   * Initializes the key.
+   * 
+   * @param id ID of the message.
+   * 
+   * @param level Level with which the message is logged.
+   */
+  MessageKey(String id, Level level) {
+    this.id = id;
+    this.handle = MessageCatalog.handle(id);
+    this.level = level;
+  }
+
+  /**
+   * Returns the ID of the message.
+   * 
+   * @return ID of the message.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the handle of the ID in the message catalog.
+   * 
+   * @return Handle of the ID or {@link MessageCatalog#NO_HANDLE}.
+   */
+  public int getHandle() {
+    return handle;
+  }
+
+  /**
+   * Returns the level with which the message is logged.
+   * 
+   * @return Level of the message.
+   */
+  public Level getLevel() {
+    return level;
+  }
+
+  @Override
+  public String toString() {
+    return id;
+  }
+}
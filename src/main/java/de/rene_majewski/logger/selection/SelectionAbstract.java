@@ -1,5 +1,7 @@
 package de.rene_majewski.logger.selection;
 
+import org.apache.logging.log4j.Level;
+
 /**
  * All selection classes for the logger are derived from this class.
  * 
@@ -8,5 +10,16 @@ package de.rene_majewski.logger.selection;
  * @author René Majewski
  */
 public abstract class SelectionAbstract {
-  
+  /**
+   * Creates the typed key of a message.
+   * 
+   * @param id ID of the message.
+   * 
+   * @param level Level with which the message is logged.
+   * 
+   * @return The typed key of the message.
+   */
+  protected static MessageKey key(String id, Level level) {
+    return new MessageKey(id, level);
+  }
 }
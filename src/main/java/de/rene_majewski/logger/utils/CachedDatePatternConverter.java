@@ -0,0 +1,80 @@
+package de.rene_majewski.logger.utils;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.pattern.ConverterKeys;
+import org.apache.logging.log4j.core.pattern.LogEventPatternConverter;
+import org.apache.logging.log4j.core.pattern.PatternConverter;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Writes the time of a message through a {@link CachedTimestamp}.
+ *
+ * Used in a pattern as {@code %cachedDate{pattern}} or {@code %cd{pattern}}
+ * with a pattern of {@link java.time.format.DateTimeFormatter}. An optional
+ * second option sets the time zone, e.g.
+ * {@code %cd{dd.MM.yyyy HH:mm:ss:SSS}{UTC}}. Without a pattern
+ * {@value #DEFAULT_PATTERN} is used.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+@Plugin(name = "CachedDatePatternConverter", category = PatternConverter.CATEGORY)
+@ConverterKeys({"cd", "cachedDate"})
+public final class CachedDatePatternConverter extends LogEventPatternConverter {
+  /**
+   * Pattern that is used, if none is given.
+   */
+  public static final String DEFAULT_PATTERN = "dd.MM.yyyy HH:mm:ss:SSS";
+
+  /**
+   * Formats the times.
+   */
+  private final CachedTimestamp timestamp;
+
+  /**
+   * Initializes the converter.
+   *
+   * @param timestamp Formats the times.
+   */
+  private CachedDatePatternConverter(CachedTimestamp timestamp) {
+    super("CachedDate", "date");
+    this.timestamp = timestamp;
+  }
+
+  /**
+   * Creates the converter.
+   *
+   * @param options The pattern and optionally the time zone.
+   *
+   * @return The created converter.
+   */
+  public static CachedDatePatternConverter newInstance(String[] options) {
+    String pattern = options != null && options.length > 0 && options[0] != null ? options[0] : DEFAULT_PATTERN;
+
+    ZoneId zone = ZoneId.systemDefault();
+    if (options != null && options.length > 1 && options[1] != null) {
+      try {
+        zone = ZoneId.of(options[1]);
+      } catch (DateTimeException e) {
+        StatusLogger.getLogger().error("Invalid time zone {}, the default time zone is used", options[1], e);
+      }
+    }
+
+    try {
+      return new CachedDatePatternConverter(new CachedTimestamp(pattern, zone));
+    } catch (IllegalArgumentException e) {
+      StatusLogger.getLogger().error("Invalid date pattern {}, {} is used", pattern, DEFAULT_PATTERN, e);
+      return new CachedDatePatternConverter(new CachedTimestamp(DEFAULT_PATTERN, zone));
+    }
+  }
+
+  @Override
+  public void format(LogEvent event, StringBuilder toAppendTo) {
+    timestamp.formatTo(event.getTimeMillis(), toAppendTo);
+  }
+}
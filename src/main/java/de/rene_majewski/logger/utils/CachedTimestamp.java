@@ -0,0 +1,162 @@
+package de.rene_majewski.logger.utils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats times with a pattern and caches the text of the current second.
+ *
+ * The pattern is split at the milliseconds ({@code SSS}). The parts before
+ * and after them are formatted only when the second changes; for all times
+ * within the same second only the three digits of the milliseconds are
+ * written between them. The formatted second is kept in an immutable object
+ * that is replaced as a whole, so the threads share it without locking. If
+ * two threads format a new second at the same time, both format it and one
+ * of them is kept.
+ *
+ * Patterns that contain other fractions of a second than {@code SSS} or text
+ * in quotes are formatted completely for each time.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class CachedTimestamp {
+  /**
+   * Formats the part before the milliseconds.
+   */
+  private final DateTimeFormatter prefixFormat;
+
+  /**
+   * Formats the part after the milliseconds or {@code null}, if there is no
+   * such part.
+   */
+  private final DateTimeFormatter suffixFormat;
+
+  /**
+   * Formats the whole time, if the pattern can not be cached.
+   */
+  private final DateTimeFormatter fullFormat;
+
+  /**
+   * Does the pattern contain the milliseconds?
+   */
+  private final boolean millis;
+
+  /**
+   * The formatted current second.
+   */
+  private volatile Second second;
+
+  /**
+   * Initializes the formatter.
+   *
+   * @param pattern Pattern of the time (see {@link DateTimeFormatter}).
+   *
+   * @param zone Time zone in which the times are formatted.
+   *
+   * @throws IllegalArgumentException If the pattern is invalid.
+   */
+  public CachedTimestamp(String pattern, ZoneId zone) {
+    int index = pattern.indexOf("SSS");
+    String rest = index >= 0 ? pattern.substring(0, index) + pattern.substring(index + 3) : pattern;
+    boolean cacheable = rest.indexOf('S') < 0 && rest.indexOf('n') < 0 && rest.indexOf('N') < 0
+                        && rest.indexOf('A') < 0 && rest.indexOf('\'') < 0;
+
+    if (cacheable) {
+      this.fullFormat = null;
+      this.millis = index >= 0;
+      String prefix = index >= 0 ? pattern.substring(0, index) : pattern;
+      String suffix = index >= 0 ? pattern.substring(index + 3) : "";
+      this.prefixFormat = DateTimeFormatter.ofPattern(prefix).withZone(zone);
+      this.suffixFormat = suffix.isEmpty() ? null : DateTimeFormatter.ofPattern(suffix).withZone(zone);
+    } else {
+      this.fullFormat = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+      this.millis = false;
+      this.prefixFormat = null;
+      this.suffixFormat = null;
+    }
+    this.second = new Second(Long.MIN_VALUE, "", "");
+  }
+
+  /**
+   * Appends the formatted time.
+   *
+   * @param epochMillis Time in milliseconds since 1970.
+   *
+   * @param buffer Buffer to which the time is appended.
+   */
+  public void formatTo(long epochMillis, StringBuilder buffer) {
+    if (fullFormat != null) {
+      fullFormat.formatTo(Instant.ofEpochMilli(epochMillis), buffer);
+      return;
+    }
+
+    long epochSecond = Math.floorDiv(epochMillis, 1000);
+    Second current = second;
+    if (current.epochSecond != epochSecond) {
+      Instant instant = Instant.ofEpochSecond(epochSecond);
+      current = new Second(epochSecond, prefixFormat.format(instant),
+                           suffixFormat != null ? suffixFormat.format(instant) : "");
+      second = current;
+    }
+
+    buffer.append(current.prefix);
+    if (millis) {
+      int ms = Math.floorMod(epochMillis, 1000);
+      buffer.append((char) ('0' + ms / 100))
+            .append((char) ('0' + ms / 10 % 10))
+            .append((char) ('0' + ms % 10));
+    }
+    buffer.append(current.suffix);
+  }
+
+  /**
+   * Formats the time.
+   *
+   * @param epochMillis Time in milliseconds since 1970.
+   *
+   * @return The formatted time.
+   */
+  public String format(long epochMillis) {
+    StringBuilder buffer = new StringBuilder(32);
+    formatTo(epochMillis, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * A formatted second.
+   */
+  private static final class Second {
+    /**
+     * The second since 1970.
+     */
+    final long epochSecond;
+
+    /**
+     * Text before the milliseconds.
+     */
+    final String prefix;
+
+    /**
+     * Text after the milliseconds.
+     */
+    final String suffix;
+
+    /**
+     * Initializes the second.
+     *
+     * @param epochSecond The second since 1970.
+     *
+     * @param prefix Text before the milliseconds.
+     *
+     * @param suffix Text after the milliseconds.
+     */
+    Second(long epochSecond, String prefix, String suffix) {
+      this.epochSecond = epochSecond;
+      this.prefix = prefix;
+      this.suffix = suffix;
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package de.rene_majewski.logger.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.Properties;
+import java.util.ResourceBundle;
+
+/**
+ * Reads the property files of a message bundle into a catalog.
+ *
+ * The files are read as UTF-8 exactly once, so every message is decoded a
+ * single time. A bundle is searched in the file system first and then on
+ * the class path. Like {@link ResourceBundle}, the files of the less specific
+ * locales are read first, so the messages of the more specific locales
+ * replace them. If no file of the locale exists besides the file without a
+ * locale, the files of the default locale are used.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class CatalogLoader {
+  /**
+   * Determines the names of the property files.
+   */
+  private static final ResourceBundle.Control CONTROL =
+    ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+  /**
+   * The class has only static methods.
+   */
+  private CatalogLoader() {
+  }
+
+  /**
+   * Returns the property files that belong to a bundle.
+   *
+   * @param baseName Name of the bundle, either a path in the file system or a
+   * resource on the class path.
+   *
+   * @param locale Locale of the messages.
+   *
+   * @return The existing files, from the least to the most specific locale.
+   * Resources on the class path are only returned, if they are files in a
+   * directory and not entries of a jar.
+   */
+  public static List<Path> files(String baseName, Locale locale) {
+    List<Path> result = new ArrayList<>();
+    for (String name : bundleNames(baseName, locale)) {
+      Path path = Paths.get(name + ".properties");
+      if (Files.isRegularFile(path)) {
+        result.add(path);
+        continue;
+      }
+
+      URL url = CatalogLoader.class.getClassLoader().getResource(CONTROL.toResourceName(name, "properties"));
+      if (url != null && "file".equals(url.getProtocol())) {
+        try {
+          result.add(Paths.get(url.toURI()));
+        } catch (URISyntaxException e) {
+          // Not a usable file name, the resource can not be watched.
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Reads the messages of a bundle into the catalog builder.
+   *
+   * @param builder Builder to which the messages are added.
+   *
+   * @param baseName Name of the bundle, either a path in the file system or a
+   * resource on the class path.
+   *
+   * @param locale Locale of the messages.
+   *
+   * @throws MissingResourceException If no property file of the bundle
+   * exists.
+   *
+   * @throws UncheckedIOException If a property file could not be read.
+   */
+  public static void load(MessageCatalog.Builder builder, String baseName, Locale locale) {
+    boolean found = false;
+
+    for (String name : bundleNames(baseName, locale)) {
+      try (InputStream inp = open(name)) {
+        if (inp == null) {
+          continue;
+        }
+
+        Properties properties = new Properties();
+        properties.load(new BufferedReader(new InputStreamReader(inp, StandardCharsets.UTF_8)));
+        properties.forEach((key, value) -> builder.put((String) key, (String) value));
+        found = true;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read " + name + ".properties", e);
+      }
+    }
+
+    if (!found) {
+      throw new MissingResourceException("Can't find bundle for base name "
+                                         + baseName + ", locale " + locale,
+                                         baseName + "_" + locale, "");
+    }
+  }
+
+  /**
+   * Determines the names of the property files of a bundle without the
+   * extension.
+   *
+   * If only the file without a locale exists, the names of the default
+   * locale are returned, like {@link ResourceBundle} falls back to it.
+   *
+   * @param baseName Name of the bundle.
+   *
+   * @param locale Locale of the messages.
+   *
+   * @return Names of the files from the least to the most specific locale.
+   */
+  private static List<String> bundleNames(String baseName, Locale locale) {
+    List<String> result = candidateNames(baseName, locale);
+
+    Locale fallback = CONTROL.getFallbackLocale(baseName, locale);
+    if (fallback != null && !fallback.equals(locale)) {
+      boolean specific = false;
+      for (String name : result.subList(1, result.size())) {
+        if (exists(name)) {
+          specific = true;
+          break;
+        }
+      }
+
+      if (!specific) {
+        return candidateNames(baseName, fallback);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Determines the names of the property files of a locale without the
+   * extension.
+   *
+   * @param baseName Name of the bundle.
+   *
+   * @param locale Locale of the messages.
+   *
+   * @return Names of the files from the least to the most specific locale,
+   * starting with the file without a locale.
+   */
+  private static List<String> candidateNames(String baseName, Locale locale) {
+    List<Locale> candidates = new ArrayList<>(CONTROL.getCandidateLocales(baseName, locale));
+    Collections.reverse(candidates);
+
+    List<String> result = new ArrayList<>(candidates.size());
+    for (Locale candidate : candidates) {
+      result.add(CONTROL.toBundleName(baseName, candidate));
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether a property file exists.
+   *
+   * @param name Name of the file without the extension.
+   *
+   * @return {@code true}, if the file exists in the file system or on the
+   * class path.
+   */
+  private static boolean exists(String name) {
+    return Files.isRegularFile(Paths.get(name + ".properties"))
+           || CatalogLoader.class.getClassLoader().getResource(CONTROL.toResourceName(name, "properties")) != null;
+  }
+
+  /**
+   * Opens a property file.
+   *
+   * In the file system the name is used as it is, on the class path the dots
+   * of the name separate packages.
+   *
+   * @param name Name of the file without the extension.
+   *
+   * @return Stream of the file or {@code null}, if the file does not exist.
+   *
+   * @throws IOException If the file could not be opened.
+   */
+  private static InputStream open(String name) throws IOException {
+    Path path = Paths.get(name + ".properties");
+    if (Files.isRegularFile(path)) {
+      return Files.newInputStream(path);
+    }
+
+    return CatalogLoader.class.getClassLoader().getResourceAsStream(CONTROL.toResourceName(name, "properties"));
+  }
+}
@@ -0,0 +1,118 @@
+package de.rene_majewski.logger.utils;
+
+import java.util.Locale;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Message of the message catalog that is passed to log4j.
+ *
+ * The message is only formatted when a layout writes it. The layout passes
+ * its own buffer, so the text is written directly into it. If the message
+ * has to be formatted to a string (e.g. before it is handed over to the
+ * asynchronous logging), the string is saved and reused.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class CatalogMessage implements Message, StringBuilderFormattable {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * ID of the message.
+   */
+  private final String id;
+
+  /**
+   * The compiled template of the message.
+   */
+  private final transient MessageTemplate template;
+
+  /**
+   * Parameters to be passed to the message.
+   */
+  private final transient Object[] params;
+
+  /**
+   * The formatted message, once it has been formatted to a string.
+   */
+  private volatile String formatted;
+
+  /**
+   * Initializes the message.
+   *
+   * @param id ID of the message.
+   *
+   * @param template The compiled template of the message.
+   *
+   * @param params Parameters to be passed to the message. If {@code null},
+   * the pattern of the template is written unchanged.
+   */
+  public CatalogMessage(String id, MessageTemplate template, Object[] params) {
+    this.id = id;
+    this.template = template;
+    this.params = params;
+  }
+
+  /**
+   * Returns the ID of the message.
+   *
+   * @return ID of the message.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the locale in which the message is formatted.
+   *
+   * @return Locale of the message.
+   */
+  public Locale getLocale() {
+    return template.getLocale();
+  }
+
+  @Override
+  public void formatTo(StringBuilder buffer) {
+    String result = formatted;
+    if (result != null) {
+      buffer.append(result);
+    } else if (params == null) {
+      buffer.append(template.getPattern());
+    } else {
+      template.formatTo(buffer, params);
+    }
+  }
+
+  @Override
+  public String getFormattedMessage() {
+    String result = formatted;
+    if (result == null) {
+      result = params == null ? template.getPattern() : template.format(params);
+      formatted = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String getFormat() {
+    return template.getPattern();
+  }
+
+  @Override
+  public Object[] getParameters() {
+    return params;
+  }
+
+  @Override
+  public Throwable getThrowable() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return getFormattedMessage();
+  }
+}
@@ -0,0 +1,155 @@
+package de.rene_majewski.logger.utils;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Loads a bundle again when one of its property files changes.
+ *
+ * The directories of the property files are watched by a background thread.
+ * After a change the thread waits until no further change occurred for the
+ * debounce time, so an editor that writes a file in several steps only
+ * causes one reload. The bundle builds the new catalog before it replaces the
+ * old one, so threads that are logging at the same time are never blocked.
+ * If the files can not be loaded, the old catalog is kept.
+ *
+ * Only files in the file system can be watched. Resources inside a jar never
+ * change and are not watched.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class CatalogWatcher {
+  /**
+   * Bundle that is loaded again.
+   */
+  private final CombinedResourceBundle bundle;
+
+  /**
+   * Names of the files without directory and locale, e.g. {@code logger}.
+   */
+  private final Set<String> baseNames;
+
+  /**
+   * Debounce time in milliseconds.
+   */
+  private final long debounce;
+
+  /**
+   * Service that reports the changes of the directories.
+   */
+  private final WatchService service;
+
+  /**
+   * Starts watching the property files of the bundle.
+   *
+   * @param bundle Bundle that is loaded again.
+   *
+   * @param debounce Time in milliseconds without further changes after
+   * which the bundle is loaded again.
+   *
+   * @throws IOException If the directories could not be watched.
+   */
+  public CatalogWatcher(CombinedResourceBundle bundle, long debounce) throws IOException {
+    this.bundle = bundle;
+    this.debounce = debounce;
+    this.baseNames = new HashSet<>();
+    this.service = FileSystems.getDefault().newWatchService();
+
+    Set<Path> directories = new HashSet<>();
+    for (String name : bundle.getBundleNames()) {
+      for (Path file : CatalogLoader.files(name, Locale.getDefault())) {
+        directories.add(file.toAbsolutePath().getParent());
+      }
+      baseNames.add(name.substring(name.lastIndexOf('/') + 1));
+    }
+
+    for (Path directory : directories) {
+      directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                         StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    Thread thread = new Thread(this::run, "logger-messages-reload");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Stops watching the property files.
+   */
+  public void close() {
+    try {
+      service.close();
+    } catch (IOException e) {
+      StatusLogger.getLogger().error("Could not stop watching the messages", e);
+    }
+  }
+
+  /**
+   * Waits for changes and loads the bundle again.
+   */
+  private void run() {
+    try {
+      while (true) {
+        if (!isRelevant(service.take())) {
+          continue;
+        }
+
+        WatchKey key;
+        while ((key = service.poll(debounce, TimeUnit.MILLISECONDS)) != null) {
+          isRelevant(key);
+        }
+
+        try {
+          bundle.load();
+        } catch (RuntimeException e) {
+          StatusLogger.getLogger().error("Could not load the messages again", e);
+        }
+      }
+    } catch (ClosedWatchServiceException | InterruptedException e) {
+      // The watcher was closed.
+    }
+  }
+
+  /**
+   * Checks whether a property file of the bundle has changed.
+   *
+   * The key is reset, so that it reports further changes.
+   *
+   * @param key Key with the changes of a directory.
+   *
+   * @return {@code true}, if a property file of the bundle has changed.
+   */
+  private boolean isRelevant(WatchKey key) {
+    boolean relevant = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        relevant = true;
+        continue;
+      }
+
+      String file = event.context().toString();
+      if (file.endsWith(".properties")) {
+        String name = file.substring(0, file.length() - ".properties".length());
+        for (String baseName : baseNames) {
+          relevant |= name.equals(baseName) || name.startsWith(baseName + "_");
+        }
+      }
+    }
+    key.reset();
+    return relevant;
+  }
+}
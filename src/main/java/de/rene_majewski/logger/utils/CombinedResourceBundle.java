@@ -1,12 +1,16 @@
 package de.rene_majewski.logger.utils;
 
-import java.util.ArrayList;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 /**
  * Loads different property files and puts them together in a bundle.
@@ -17,9 +21,26 @@ import java.util.ResourceBundle;
  */
 public class CombinedResourceBundle extends ResourceBundle {
   /**
-   * Saves the loaded properties.
+   * Saves the loaded and compiled messages of the default locale.
+   * 
+   * The catalog is immutable. Loading the bundles again replaces it as a
+   * whole, so readers always see a complete catalog.
+   */
+  private volatile MessageCatalog catalog;
+
+  /**
+   * Saves the catalogs of the other locales that have been used so far.
+   * 
+   * The map is never changed. A new locale or loading the bundles again
+   * replaces it with a copy, so readers need no locking.
+   */
+  private volatile Map<Locale, MessageCatalog> catalogs = Collections.emptyMap();
+
+  /**
+   * Locales whose messages could not be loaded. They use the catalog of the
+   * default locale until the bundles are loaded again.
    */
-  private Map<String, String> combindedResources;
+  private final Set<Locale> failed = new HashSet<>();
   
   /**
    * List with all names of the property files to be loaded.
@@ -32,32 +53,166 @@ public class CombinedResourceBundle extends ResourceBundle {
    * @param bundleNames List with all names of the property files to be loaded.
    */
   public CombinedResourceBundle(List<String> bundleNames) {
-    this.combindedResources = new HashMap<>();
     this.bundleNames = bundleNames;
     load();
   }
 
   /**
    * Loads the properties from the specified files.
+   * 
+   * The new catalogs are built completely before they replace the old ones,
+   * so the bundle can be loaded again while other threads are reading it.
+   * The catalogs of all locales used so far are loaded again. Locales whose
+   * messages could not be loaded are tried again when they are used next.
+   * 
+   * The files are read as UTF-8 directly into the catalog. A bundle name can
+   * be a resource on the class path or a path in the file system.
+   * 
+   * @throws MissingResourceException If a bundle does not exist.
+   */
+  public synchronized void load() {
+    Map<Locale, MessageCatalog> reloaded = new HashMap<>();
+    catalogs.keySet().stream()
+      .filter(locale -> !failed.contains(locale))
+      .forEach(locale -> reloaded.put(locale, load(locale)));
+    catalog = load(Locale.getDefault());
+    catalogs = Collections.unmodifiableMap(reloaded);
+    failed.clear();
+  }
+
+  /**
+   * Loads the properties of the given locale from the specified files.
+   * 
+   * @param locale Locale of the messages.
+   * 
+   * @return The catalog of the compiled messages.
+   * 
+   * @throws MissingResourceException If a bundle does not exist.
    */
-  public void load() {
+  private MessageCatalog load(Locale locale) {
+    MessageCatalog.Builder builder = new MessageCatalog.Builder(locale);
     bundleNames.forEach(bundleName -> {
-      ResourceBundle bundle = Utf8ResourceBundle.getBundle(bundleName);
-      Enumeration<String> keys = bundle.getKeys();
-      ArrayList<String> keyList = Collections.list(keys);
-      keyList.forEach(key -> {
-        combindedResources.put(key, bundle.getString(key));
-      });
+      CatalogLoader.load(builder, bundleName, locale);
     });
+    return builder.build();
+  }
+
+  /**
+   * Returns the names of the property files to be loaded.
+   * 
+   * @return Unmodifiable list with the names of the property files.
+   */
+  public List<String> getBundleNames() {
+    return Collections.unmodifiableList(bundleNames);
+  }
+
+  /**
+   * Returns the catalog of the compiled messages.
+   * 
+   * @return The catalog of the compiled messages.
+   */
+  public MessageCatalog getCatalog() {
+    return catalog;
+  }
+
+  /**
+   * Returns the catalog of the compiled messages of the given locale.
+   * 
+   * The catalog of a locale is loaded when it is used for the first time.
+   * After that it is returned without loading or locking. If the messages of
+   * the locale can not be loaded, the exception is only thrown once. After
+   * that the catalog of the default locale is returned for the locale.
+   * 
+   * @param locale Locale of the messages. {@code null} stands for the
+   * default locale.
+   * 
+   * @return The catalog of the compiled messages.
+   * 
+   * @throws MissingResourceException If a bundle does not exist.
+   * 
+   * @throws UncheckedIOException If a property file could not be read.
+   */
+  public MessageCatalog getCatalog(Locale locale) {
+    if (locale == null) {
+      return catalog;
+    }
+
+    MessageCatalog result = catalogs.get(locale);
+    if (result == null) {
+      result = addCatalog(locale);
+    }
+    return result;
+  }
+
+  /**
+   * Loads the catalog of a locale and adds it to the used catalogs.
+   * 
+   * If the messages can not be loaded, the catalog of the default locale is
+   * added for the locale.
+   * 
+   * @param locale Locale of the messages.
+   * 
+   * @return The catalog of the compiled messages.
+   * 
+   * @throws MissingResourceException If a bundle does not exist.
+   * 
+   * @throws UncheckedIOException If a property file could not be read.
+   */
+  private synchronized MessageCatalog addCatalog(Locale locale) {
+    MessageCatalog result = catalogs.get(locale);
+    if (result == null) {
+      try {
+        result = load(locale);
+      } catch (MissingResourceException | UncheckedIOException e) {
+        failed.add(locale);
+        putCatalog(locale, catalog);
+        throw e;
+      }
+      putCatalog(locale, result);
+    }
+    return result;
+  }
+
+  /**
+   * Replaces the catalogs of the other locales with a copy that contains the
+   * given catalog.
+   * 
+   * @param locale Locale of the messages.
+   * 
+   * @param result The catalog of the compiled messages.
+   */
+  private void putCatalog(Locale locale, MessageCatalog result) {
+    Map<Locale, MessageCatalog> copy = new HashMap<>(catalogs);
+    copy.put(locale, result);
+    catalogs = Collections.unmodifiableMap(copy);
+  }
+
+  /**
+   * Returns the compiled message template of the given key.
+   * 
+   * @param key Key of the message.
+   * 
+   * @return The compiled message template.
+   * 
+   * @throws MissingResourceException If no message exists for the key.
+   */
+  public MessageTemplate getTemplate(String key) {
+    MessageTemplate template = catalog.get(key);
+    if (template == null) {
+      throw new MissingResourceException("Can't find resource for key " + key,
+                                         getClass().getName(), key);
+    }
+    return template;
   }
 
   @Override
   public Object handleGetObject(String key) {
-    return combindedResources.get(key);
+    MessageTemplate template = catalog.get(key);
+    return template != null ? template.getPattern() : null;
   }
 
   @Override
   public Enumeration<String> getKeys() {
-    return Collections.enumeration(combindedResources.keySet());
+    return Collections.enumeration(catalog.keys());
   }
 }
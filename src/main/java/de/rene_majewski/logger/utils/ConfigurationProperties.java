@@ -0,0 +1,204 @@
+package de.rene_majewski.logger.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Typed access to the values of a configuration file.
+ *
+ * Each getter returns the given default value, if the key is missing. An
+ * invalid value is reported through the log4j status logger and the default
+ * value is returned as well, so a single wrong entry does not prevent the
+ * logger from starting.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class ConfigurationProperties {
+  /**
+   * The values of the configuration file.
+   */
+  private final Properties properties;
+
+  /**
+   * Initializes the configuration.
+   *
+   * @param properties The values of the configuration file.
+   */
+  public ConfigurationProperties(Properties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Reads a configuration file.
+   *
+   * The file is searched in the file system first and then on the class
+   * path. It is read as UTF-8.
+   *
+   * @param name Name of the file.
+   *
+   * @return The configuration or {@code null}, if the file does not exist.
+   *
+   * @throws IOException If the file could not be read.
+   */
+  public static ConfigurationProperties read(String name) throws IOException {
+    Path path = Paths.get(name);
+    InputStream inp = Files.isRegularFile(path)
+      ? Files.newInputStream(path)
+      : ConfigurationProperties.class.getClassLoader().getResourceAsStream(name);
+    if (inp == null) {
+      return null;
+    }
+
+    try (InputStreamReader reader = new InputStreamReader(inp, StandardCharsets.UTF_8)) {
+      Properties properties = new Properties();
+      properties.load(reader);
+      return new ConfigurationProperties(properties);
+    }
+  }
+
+  /**
+   * Returns a text.
+   *
+   * @param key Key of the value.
+   *
+   * @param def Value to be returned, if the key is missing.
+   *
+   * @return The value of the key.
+   */
+  public String getString(String key, String def) {
+    String value = properties.getProperty(key);
+    return value != null ? value.trim() : def;
+  }
+
+  /**
+   * Returns a boolean value ({@code true} or {@code false}).
+   *
+   * @param key Key of the value.
+   *
+   * @param def Value to be returned, if the key is missing or invalid.
+   *
+   * @return The value of the key.
+   */
+  public boolean getBoolean(String key, boolean def) {
+    String value = getString(key, null);
+    if ("true".equalsIgnoreCase(value)) {
+      return true;
+    } else if ("false".equalsIgnoreCase(value)) {
+      return false;
+    } else if (value != null) {
+      invalid(key, value);
+    }
+    return def;
+  }
+
+  /**
+   * Returns an integer.
+   *
+   * @param key Key of the value.
+   *
+   * @param def Value to be returned, if the key is missing or invalid.
+   *
+   * @return The value of the key.
+   */
+  public int getInt(String key, int def) {
+    String value = getString(key, null);
+    if (value != null) {
+      try {
+        return Integer.parseInt(value);
+      } catch (NumberFormatException e) {
+        invalid(key, value);
+      }
+    }
+    return def;
+  }
+
+  /**
+   * Returns a long integer.
+   *
+   * @param key Key of the value.
+   *
+   * @param def Value to be returned, if the key is missing or invalid.
+   *
+   * @return The value of the key.
+   */
+  public long getLong(String key, long def) {
+    String value = getString(key, null);
+    if (value != null) {
+      try {
+        return Long.parseLong(value);
+      } catch (NumberFormatException e) {
+        invalid(key, value);
+      }
+    }
+    return def;
+  }
+
+  /**
+   * Returns a log level, e.g. {@code DEBUG}.
+   *
+   * @param key Key of the value.
+   *
+   * @param def Value to be returned, if the key is missing or invalid.
+   *
+   * @return The value of the key.
+   */
+  public Level getLevel(String key, Level def) {
+    String value = getString(key, null);
+    if (value != null) {
+      Level level = Level.getLevel(value.toUpperCase(Locale.ROOT));
+      if (level != null) {
+        return level;
+      }
+      invalid(key, value);
+    }
+    return def;
+  }
+
+  /**
+   * Returns a constant of an enumeration.
+   *
+   * @param <E> Type of the enumeration.
+   *
+   * @param key Key of the value.
+   *
+   * @param type Class of the enumeration.
+   *
+   * @param def Value to be returned, if the key is missing or invalid.
+   *
+   * @return The value of the key.
+   */
+  public <E extends Enum<E>> E getEnum(String key, Class<E> type, E def) {
+    String value = getString(key, null);
+    if (value != null) {
+      try {
+        return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        invalid(key, value);
+      }
+    }
+    return def;
+  }
+
+  /**
+   * Reports an invalid value.
+   *
+   * @param key Key of the value.
+   *
+   * @param value The invalid value.
+   */
+  private static void invalid(String key, String value) {
+    StatusLogger.getLogger().error("Invalid value '{}' of the configuration key {}", value, key);
+  }
+}
@@ -0,0 +1,227 @@
+package de.rene_majewski.logger.utils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * Suppresses identical errors that occur again and again.
+ *
+ * Two errors are identical, if they were reported by the same class, have
+ * the same type and were thrown at the same place. The first error is logged
+ * in full. Identical errors that follow are only counted. At the end of each
+ * interval the number of suppressed errors is reported as a summary. An
+ * error that did not occur again during a whole interval is forgotten, so
+ * its next occurrence is logged in full again.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class ErrorSuppression {
+  /**
+   * Value of a counter that has been removed from the map. It is never
+   * incremented again.
+   */
+  private static final long REMOVED = -1;
+
+  /**
+   * Receives the summaries of the suppressed errors.
+   */
+  @FunctionalInterface
+  public interface SummaryListener {
+    /**
+     * Reports how many identical errors were suppressed.
+     *
+     * @param caller Class that reported the errors.
+     *
+     * @param level Level of the errors.
+     *
+     * @param type Class name of the errors.
+     *
+     * @param location Place where the errors were thrown or {@code null}, if
+     * unknown.
+     *
+     * @param count Number of suppressed errors.
+     */
+    void suppressed(Class<?> caller, Level level, String type,
+                    StackTraceElement location, long count);
+  }
+
+  /**
+   * Saves the errors that occurred in the current interval.
+   */
+  private final Map<Key, AtomicLong> errors;
+
+  /**
+   * Counts all suppressed errors.
+   */
+  private final LongAdder suppressed;
+
+  /**
+   * Receives the summaries of the suppressed errors.
+   */
+  private final SummaryListener listener;
+
+  /**
+   * Thread that reports the summaries.
+   */
+  private final ScheduledExecutorService executor;
+
+  /**
+   * Initializes the suppression and starts the reporting of the summaries.
+   *
+   * @param interval Length of an interval in milliseconds.
+   *
+   * @param listener Receives the summaries of the suppressed errors.
+   */
+  public ErrorSuppression(long interval, SummaryListener listener) {
+    this.errors = new ConcurrentHashMap<>();
+    this.suppressed = new LongAdder();
+    this.listener = listener;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "logger-error-suppression");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Checks whether the error should be logged in full.
+   *
+   * @param caller Class that reports the error.
+   *
+   * @param level Level of the error.
+   *
+   * @param err The error.
+   *
+   * @return {@code true}, if it is the first occurrence of the error in the
+   * current interval. {@code false} if the error was counted as suppressed.
+   */
+  public boolean tryLog(Object caller, Level level, Throwable err) {
+    StackTraceElement[] trace = err.getStackTrace();
+    Key key = new Key(caller.getClass(), level, err.getClass().getName(),
+                      trace.length > 0 ? trace[0] : null);
+
+    while (true) {
+      AtomicLong count = errors.get(key);
+      if (count == null) {
+        count = errors.putIfAbsent(key, new AtomicLong());
+        if (count == null) {
+          return true;
+        }
+      }
+
+      if (count.getAndUpdate(n -> n == REMOVED ? n : n + 1) != REMOVED) {
+        suppressed.increment();
+        return false;
+      }
+
+      // The error was forgotten at the same time, the next try logs it again.
+      errors.remove(key, count);
+    }
+  }
+
+  /**
+   * Returns the number of all suppressed errors.
+   *
+   * @return Number of suppressed errors.
+   */
+  public long getSuppressedCount() {
+    return suppressed.sum();
+  }
+
+  /**
+   * Stops the reporting of the summaries.
+   *
+   * Errors that are still counted are reported before.
+   */
+  public void close() {
+    executor.shutdown();
+    report();
+  }
+
+  /**
+   * Reports the summaries of the current interval.
+   */
+  private void report() {
+    errors.forEach((key, count) -> {
+      long n = count.getAndUpdate(value -> value == REMOVED ? value : 0);
+      if (n > 0) {
+        listener.suppressed(key.caller, key.level, key.type, key.location, n);
+      } else {
+        errors.computeIfPresent(key, (k, current) ->
+          current == count && count.compareAndSet(0, REMOVED) ? null : current);
+      }
+    });
+  }
+
+  /**
+   * Identifies identical errors.
+   */
+  private static final class Key {
+    /**
+     * Class that reported the error.
+     */
+    private final Class<?> caller;
+
+    /**
+     * Level of the error.
+     */
+    private final Level level;
+
+    /**
+     * Class name of the error.
+     */
+    private final String type;
+
+    /**
+     * Place where the error was thrown.
+     */
+    private final StackTraceElement location;
+
+    /**
+     * Initializes the key.
+     *
+     * @param caller Class that reported the error.
+     *
+     * @param level Level of the error.
+     *
+     * @param type Class name of the error.
+     *
+     * @param location Place where the error was thrown.
+     */
+    private Key(Class<?> caller, Level level, String type, StackTraceElement location) {
+      this.caller = caller;
+      this.level = level;
+      this.type = type;
+      this.location = location;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return caller == other.caller && level == other.level
+        && type.equals(other.type) && Objects.equals(location, other.location);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(caller, level, type, location);
+    }
+  }
+}
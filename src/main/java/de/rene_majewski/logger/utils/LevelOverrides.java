@@ -0,0 +1,248 @@
+package de.rene_majewski.logger.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+
+/**
+ * Changes the level of single loggers while the application is running.
+ *
+ * An override only adds or changes the configuration of one logger and then
+ * updates the loggers of log4j. The appenders and the rest of the
+ * configuration are not created again. Messages that are logged at the same
+ * time see either the old or the new level.
+ *
+ * The appenders of log4j only accept the messages of their own level. So a
+ * logger that is added by an override does not use the appenders of its
+ * parent but gets its own references to the {@link #setAppenders appenders}
+ * with the levels given there. A logger that was already configured keeps its
+ * appenders.
+ *
+ * An override can be limited in time. The thread that removes expired
+ * overrides is only started when it is needed for the first time.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class LevelOverrides {
+  /**
+   * Saves the active overrides by logger name.
+   */
+  private final Map<String, Entry> overrides = new ConcurrentHashMap<>();
+
+  /**
+   * Appenders of the loggers that are added by an override with the level
+   * of each appender or {@code null}, if these loggers use the appenders of
+   * their parent.
+   */
+  private Map<String, Level> appenders;
+
+  /**
+   * Thread that removes expired overrides or {@code null}, if no override
+   * with a duration has been set yet.
+   */
+  private ScheduledExecutorService executor;
+
+  /**
+   * Sets the appenders of the loggers that are added by an override.
+   *
+   * Only used for overrides that are set afterwards.
+   *
+   * @param appenders Names of the appenders with the level of each appender.
+   * {@link Level#ALL} passes all messages of the override to the appender.
+   * {@code null} lets the added loggers use the appenders of their parent.
+   */
+  public synchronized void setAppenders(Map<String, Level> appenders) {
+    this.appenders = appenders != null ? new LinkedHashMap<>(appenders) : null;
+  }
+
+  /**
+   * Sets the level of a logger.
+   *
+   * @param name Name of the logger, e.g. the name of a class. The empty
+   * string stands for the root logger.
+   *
+   * @param level The new level.
+   *
+   * @param duration Time in milliseconds after which the override is removed.
+   * {@code 0} or less keeps it until it is {@link #clear(String) cleared}.
+   */
+  public synchronized void set(String name, Level level, long duration) {
+    Entry override = overrides.get(name);
+    if (override == null) {
+      LoggerConfig config = find(getContext().getConfiguration(), name);
+      override = new Entry(config != null ? config.getLevel() : null);
+      overrides.put(name, override);
+    } else if (override.revert != null) {
+      override.revert.cancel(false);
+      override.revert = null;
+    }
+
+    apply(name, level);
+
+    if (duration > 0) {
+      override.revert = getExecutor().schedule(() -> clear(name), duration, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Removes the override of a logger.
+   *
+   * A logger that was configured before gets its old level back. A logger
+   * that was only added by the override is removed, so it uses the level of
+   * its parent again.
+   *
+   * @param name Name of the logger.
+   */
+  public synchronized void clear(String name) {
+    Entry override = overrides.remove(name);
+    if (override == null) {
+      return;
+    }
+
+    if (override.revert != null) {
+      override.revert.cancel(false);
+    }
+
+    if (override.previous != null) {
+      apply(name, override.previous);
+    } else {
+      LoggerContext context = getContext();
+      context.getConfiguration().removeLogger(name);
+      context.updateLoggers();
+    }
+  }
+
+  /**
+   * Removes all overrides.
+   */
+  public synchronized void clearAll() {
+    overrides.keySet().forEach(this::clear);
+  }
+
+  /**
+   * Stops the thread that removes expired overrides.
+   *
+   * The overrides themselves are kept.
+   */
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  /**
+   * Sets the level of a logger in the configuration and updates the loggers.
+   *
+   * @param name Name of the logger.
+   *
+   * @param level The new level.
+   */
+  private void apply(String name, Level level) {
+    LoggerContext context = getContext();
+    Configuration configuration = context.getConfiguration();
+    LoggerConfig config = find(configuration, name);
+    if (config == null) {
+      config = new LoggerConfig(name, level, appenders == null);
+      config.setParent(configuration.getLoggerConfig(name));
+      if (appenders != null) {
+        for (Map.Entry<String, Level> entry : appenders.entrySet()) {
+          Appender appender = configuration.getAppender(entry.getKey());
+          if (appender != null) {
+            config.addAppender(appender, entry.getValue(), null);
+          }
+        }
+
+        Filter filter = configuration.getRootLogger().getFilter();
+        if (filter != null) {
+          config.addFilter(filter);
+        }
+      }
+      configuration.addLogger(name, config);
+    } else {
+      config.setLevel(level);
+    }
+    context.updateLoggers();
+  }
+
+  /**
+   * Returns the configuration of a logger.
+   *
+   * @param configuration The current configuration of log4j.
+   *
+   * @param name Name of the logger.
+   *
+   * @return The configuration of exactly this logger or {@code null}, if the
+   * logger is not configured.
+   */
+  private static LoggerConfig find(Configuration configuration, String name) {
+    return name.isEmpty() ? configuration.getRootLogger() : configuration.getLoggers().get(name);
+  }
+
+  /**
+   * Returns the context of log4j.
+   *
+   * @return The context of log4j.
+   */
+  private static LoggerContext getContext() {
+    return (LoggerContext) LogManager.getContext(false);
+  }
+
+  /**
+   * Returns the thread that removes expired overrides and starts it, if
+   * necessary.
+   *
+   * @return The thread that removes expired overrides.
+   */
+  private ScheduledExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "logger-level-overrides");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return executor;
+  }
+
+  /**
+   * An active override.
+   */
+  private static final class Entry {
+    /**
+     * Level of the logger before the override or {@code null}, if the logger
+     * was not configured.
+     */
+    private final Level previous;
+
+    /**
+     * Removes the override when it expires or {@code null}, if it does not
+     * expire.
+     */
+    private ScheduledFuture<?> revert;
+
+    /**
+     * Initializes the override.
+     *
+     * @param previous Level of the logger before the override or
+     * {@code null}, if the logger was not configured.
+     */
+    private Entry(Level previous) {
+      this.previous = previous;
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package de.rene_majewski.logger.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable catalog of the compiled messages.
+ *
+ * IDs that follow the scheme of the selection classes, i.e. an upper case
+ * letter followed by three digits ({@code D001}, {@code I200},
+ * {@code E001}...), are converted into a numeric handle. The handle is the
+ * index of the message in an array, so looking up such a message needs no
+ * hashing at all. All other IDs are kept in a map.
+ *
+ * The catalog never changes after it has been built and can therefore be
+ * read by several threads without locking.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class MessageCatalog {
+  /**
+   * Handle of IDs that do not follow the scheme of the selection classes.
+   */
+  public static final int NO_HANDLE = -1;
+
+  /**
+   * Number of IDs per letter.
+   */
+  private static final int IDS_PER_LETTER = 1000;
+
+  /**
+   * Compiled messages whose ID follows the scheme.
+   *
+   * The first index is the letter, the second one the number of the ID.
+   */
+  private final MessageTemplate[][] templates;
+
+  /**
+   * Compiled messages whose ID does not follow the scheme.
+   */
+  private final Map<String, MessageTemplate> others;
+
+  /**
+   * All IDs of the catalog.
+   */
+  private final Set<String> keys;
+
+  /**
+   * Initializes the catalog.
+   *
+   * @param templates Compiled messages indexed by letter and number.
+   *
+   * @param others Compiled messages whose ID does not follow the scheme.
+   *
+   * @param keys All IDs of the catalog.
+   */
+  private MessageCatalog(MessageTemplate[][] templates,
+                         Map<String, MessageTemplate> others, Set<String> keys) {
+    this.templates = templates;
+    this.others = others;
+    this.keys = keys;
+  }
+
+  /**
+   * Converts the given ID into a handle.
+   *
+   * The handle only depends on the ID, so it can be computed once and used
+   * with every catalog.
+   *
+   * @param id ID of the message.
+   *
+   * @return The handle of the ID or {@link #NO_HANDLE}, if the ID does not
+   * follow the scheme of the selection classes.
+   */
+  public static int handle(String id) {
+    if (id == null || id.length() != 4) {
+      return NO_HANDLE;
+    }
+
+    char letter = id.charAt(0);
+    if (letter < 'A' || letter > 'Z') {
+      return NO_HANDLE;
+    }
+
+    int number = 0;
+    for (int i = 1; i < 4; i++) {
+      char digit = id.charAt(i);
+      if (digit < '0' || digit > '9') {
+        return NO_HANDLE;
+      }
+      number = number * 10 + (digit - '0');
+    }
+
+    return (letter - 'A') * IDS_PER_LETTER + number;
+  }
+
+  /**
+   * Returns the compiled message of the given handle.
+   *
+   * @param handle Handle of the message.
+   *
+   * @return The compiled message or {@code null}, if the catalog does not
+   * contain the message.
+   */
+  public MessageTemplate get(int handle) {
+    if (handle < 0) {
+      return null;
+    }
+
+    MessageTemplate[] letter = templates[handle / IDS_PER_LETTER];
+    int number = handle % IDS_PER_LETTER;
+    return letter != null && number < letter.length ? letter[number] : null;
+  }
+
+  /**
+   * Returns the compiled message of the given ID.
+   *
+   * @param id ID of the message.
+   *
+   * @return The compiled message or {@code null}, if the catalog does not
+   * contain the message.
+   */
+  public MessageTemplate get(String id) {
+    int handle = handle(id);
+    return handle != NO_HANDLE ? get(handle) : others.get(id);
+  }
+
+  /**
+   * Returns all IDs of the catalog.
+   *
+   * @return Unmodifiable set of all IDs.
+   */
+  public Set<String> keys() {
+    return keys;
+  }
+
+  /**
+   * Collects the messages of a catalog.
+   */
+  public static final class Builder {
+    /**
+     * The collected messages.
+     */
+    private final Map<String, String> messages = new LinkedHashMap<>();
+
+    /**
+     * Locale used to format numbers and dates.
+     */
+    private final Locale locale;
+
+    /**
+     * Initializes a builder that formats with the default format locale.
+     */
+    public Builder() {
+      this(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Initializes a builder.
+     *
+     * @param locale Locale used to format numbers and dates.
+     */
+    public Builder(Locale locale) {
+      this.locale = locale;
+    }
+
+    /**
+     * Adds a message. A message with the same ID that has already been added
+     * is replaced.
+     *
+     * @param id ID of the message.
+     *
+     * @param pattern Pattern of the message.
+     *
+     * @return This builder.
+     */
+    public Builder put(String id, String pattern) {
+      messages.put(id, pattern);
+      return this;
+    }
+
+    /**
+     * Compiles all collected messages and builds the catalog.
+     *
+     * @return The built catalog.
+     */
+    public MessageCatalog build() {
+      MessageTemplate[][] templates = new MessageTemplate[26][];
+      Map<String, MessageTemplate> others = new HashMap<>();
+
+      for (String id : messages.keySet()) {
+        int handle = handle(id);
+        if (handle != NO_HANDLE) {
+          int letter = handle / IDS_PER_LETTER;
+          int size = handle % IDS_PER_LETTER + 1;
+          if (templates[letter] == null || templates[letter].length < size) {
+            templates[letter] = new MessageTemplate[size];
+          }
+        }
+      }
+
+      messages.forEach((id, pattern) -> {
+        MessageTemplate template = MessageTemplate.compileOrLiteral(pattern, locale);
+        int handle = handle(id);
+        if (handle != NO_HANDLE) {
+          templates[handle / IDS_PER_LETTER][handle % IDS_PER_LETTER] = template;
+        } else {
+          others.put(id, template);
+        }
+      });
+
+      return new MessageCatalog(templates, others,
+                                Collections.unmodifiableSet(new LinkedHashSet<>(messages.keySet())));
+    }
+  }
+}
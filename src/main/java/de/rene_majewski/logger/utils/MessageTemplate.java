@@ -0,0 +1,284 @@
+package de.rene_majewski.logger.utils;
+
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * A message pattern that has been compiled once and can then be formatted any
+ * number of times.
+ *
+ * The pattern follows the rules of {@link MessageFormat}. Patterns that only
+ * contain simple arguments like {@code {0}} are split into their literal
+ * parts and argument indexes, so formatting does not parse the pattern
+ * again. Patterns with format types (e.g. {@code {0,number}}) are formatted
+ * by a copy of a prepared {@link MessageFormat}.
+ *
+ * Instances are immutable and can be used by several threads at the same
+ * time.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class MessageTemplate {
+  /**
+   * The pattern from which the template was compiled.
+   */
+  private final String pattern;
+
+  /**
+   * Locale used to format numbers and dates.
+   */
+  private final Locale locale;
+
+  /**
+   * Literal parts of the pattern.
+   *
+   * The literal at position {@code i} is written before the argument at
+   * position {@code i}. The last literal is written after the last argument.
+   */
+  private final String[] literals;
+
+  /**
+   * Indexes of the arguments in the order in which they appear in the
+   * pattern.
+   */
+  private final int[] arguments;
+
+  /**
+   * Prepared message format for patterns with format types, otherwise
+   * {@code null}.
+   */
+  private final MessageFormat format;
+
+  /**
+   * Initializes the template.
+   *
+   * @param pattern The pattern from which the template was compiled.
+   *
+   * @param locale Locale used to format numbers and dates.
+   *
+   * @param literals Literal parts of the pattern.
+   *
+   * @param arguments Indexes of the arguments.
+   *
+   * @param format Prepared message format or {@code null}.
+   */
+  private MessageTemplate(String pattern, Locale locale, String[] literals,
+                          int[] arguments, MessageFormat format) {
+    this.pattern = pattern;
+    this.locale = locale;
+    this.literals = literals;
+    this.arguments = arguments;
+    this.format = format;
+  }
+
+  /**
+   * Compiles the given pattern with the default format locale.
+   *
+   * @param pattern Pattern to be compiled.
+   *
+   * @return The compiled template.
+   *
+   * @throws IllegalArgumentException If the pattern is invalid.
+   */
+  public static MessageTemplate compile(String pattern) {
+    return compile(pattern, Locale.getDefault(Locale.Category.FORMAT));
+  }
+
+  /**
+   * Compiles the given pattern.
+   *
+   * @param pattern Pattern to be compiled.
+   *
+   * @param locale Locale used to format numbers and dates.
+   *
+   * @return The compiled template.
+   *
+   * @throws IllegalArgumentException If the pattern is invalid.
+   */
+  public static MessageTemplate compile(String pattern, Locale locale) {
+    MessageFormat format = new MessageFormat(pattern, locale);
+    for (Format f : format.getFormats()) {
+      if (f != null) {
+        return new MessageTemplate(pattern, locale, null, null, format);
+      }
+    }
+
+    List<String> literals = new ArrayList<>();
+    List<Integer> arguments = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; i < pattern.length(); i++) {
+      char ch = pattern.charAt(i);
+
+      if (ch == '\'') {
+        if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+          literal.append(ch);
+          i++;
+        } else {
+          quoted = !quoted;
+        }
+      } else if (ch == '{' && !quoted) {
+        int end = pattern.indexOf('}', i);
+        int index;
+        try {
+          index = Integer.parseInt(pattern.substring(i + 1, end).trim());
+        } catch (RuntimeException e) {
+          // Not a simple argument, let MessageFormat handle it.
+          return new MessageTemplate(pattern, locale, null, null, format);
+        }
+        literals.add(literal.toString());
+        arguments.add(index);
+        literal.setLength(0);
+        i = end;
+      } else {
+        literal.append(ch);
+      }
+    }
+    literals.add(literal.toString());
+
+    int[] indexes = new int[arguments.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = arguments.get(i);
+    }
+
+    return new MessageTemplate(pattern, locale,
+                               literals.toArray(new String[literals.size()]),
+                               indexes, null);
+  }
+
+  /**
+   * Compiles the given pattern with the default format locale.
+   *
+   * If the pattern is invalid, a template is returned that writes the
+   * pattern unchanged.
+   *
+   * @param pattern Pattern to be compiled.
+   *
+   * @return The compiled template.
+   */
+  public static MessageTemplate compileOrLiteral(String pattern) {
+    return compileOrLiteral(pattern, Locale.getDefault(Locale.Category.FORMAT));
+  }
+
+  /**
+   * Compiles the given pattern.
+   *
+   * If the pattern is invalid, a template is returned that writes the
+   * pattern unchanged.
+   *
+   * @param pattern Pattern to be compiled.
+   *
+   * @param locale Locale used to format numbers and dates.
+   *
+   * @return The compiled template.
+   */
+  public static MessageTemplate compileOrLiteral(String pattern, Locale locale) {
+    try {
+      return compile(pattern, locale);
+    } catch (IllegalArgumentException e) {
+      return new MessageTemplate(pattern, locale, new String[] {pattern}, new int[0], null);
+    }
+  }
+
+  /**
+   * Returns the pattern from which the template was compiled.
+   *
+   * @return The pattern of the template.
+   */
+  public String getPattern() {
+    return pattern;
+  }
+
+  /**
+   * Returns the locale used to format numbers and dates.
+   *
+   * @return The locale of the template.
+   */
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+   * Formats the template with the given parameters.
+   *
+   * @param params Parameters to be passed to the message.
+   *
+   * @return The formatted message.
+   */
+  public String format(Object[] params) {
+    if (format != null) {
+      return ((MessageFormat) format.clone()).format(params);
+    }
+
+    StringBuilder result = new StringBuilder(pattern.length() + 16 * arguments.length);
+    formatTo(result, params);
+    return result.toString();
+  }
+
+  /**
+   * Formats the template with the given parameters and appends the result to
+   * the given buffer.
+   *
+   * @param buffer Buffer to which the message is appended.
+   *
+   * @param params Parameters to be passed to the message.
+   */
+  public void formatTo(StringBuilder buffer, Object[] params) {
+    if (format != null) {
+      buffer.append(((MessageFormat) format.clone()).format(params));
+      return;
+    }
+
+    for (int i = 0; i < arguments.length; i++) {
+      buffer.append(literals[i]);
+      appendArgument(buffer, arguments[i], params);
+    }
+    buffer.append(literals[arguments.length]);
+  }
+
+  /**
+   * Appends an argument in the same way as {@link MessageFormat} does for
+   * arguments without a format type.
+   *
+   * Arguments that can format themselves into a buffer (e.g. a
+   * {@link StackTraceRenderer}) are written directly into the buffer.
+   *
+   * @param buffer Buffer to which the argument is appended.
+   *
+   * @param index Index of the argument.
+   *
+   * @param params Parameters to be passed to the message.
+   */
+  private void appendArgument(StringBuilder buffer, int index, Object[] params) {
+    if (params == null || index >= params.length) {
+      buffer.append('{').append(index).append('}');
+      return;
+    }
+
+    Object obj = params[index];
+    if (obj == null) {
+      buffer.append("null");
+    } else if (obj instanceof String) {
+      buffer.append((String) obj);
+    } else if (obj instanceof Number) {
+      buffer.append(NumberFormat.getInstance(locale).format(obj));
+    } else if (obj instanceof Date) {
+      buffer.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(obj));
+    } else if (obj instanceof StringBuilderFormattable) {
+      ((StringBuilderFormattable) obj).formatTo(buffer);
+    } else {
+      buffer.append(obj.toString());
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package de.rene_majewski.logger.utils;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Renders the stack trace of an error as parameter of a message.
+ *
+ * The frames are written directly into the buffer of the layout, so no
+ * intermediate string of the whole stack trace is built. Each frame is
+ * written on its own line. Causes and suppressed errors follow the frames of
+ * the error. Frames that a cause has in common with the error that it caused
+ * are collapsed into a line {@code ... N more}.
+ *
+ * @version 1.0
+ * @since 0.2.0
+ * @author René Majewski
+ */
+public final class StackTraceRenderer implements StringBuilderFormattable {
+  /**
+   * The error whose stack trace is rendered.
+   */
+  private final Throwable error;
+
+  /**
+   * Maximum number of frames written per error. {@code 0} or less writes all
+   * frames.
+   */
+  private final int maxDepth;
+
+  /**
+   * Initializes the renderer.
+   *
+   * @param error The error whose stack trace is rendered.
+   *
+   * @param maxDepth Maximum number of frames written per error. {@code 0} or
+   * less writes all frames.
+   */
+  public StackTraceRenderer(Throwable error, int maxDepth) {
+    this.error = error;
+    this.maxDepth = maxDepth;
+  }
+
+  @Override
+  public void formatTo(StringBuilder buffer) {
+    Set<Throwable> rendered = Collections.newSetFromMap(new IdentityHashMap<>());
+    rendered.add(error);
+
+    StackTraceElement[] trace = error.getStackTrace();
+    appendFrames(buffer, trace, trace.length, "");
+    appendEnclosed(buffer, error, trace, "", rendered);
+  }
+
+  /**
+   * Writes the causes and suppressed errors of an error.
+   *
+   * @param buffer Buffer to which the stack trace is appended.
+   *
+   * @param enclosing The error whose causes are written.
+   *
+   * @param enclosingTrace Stack trace of the enclosing error.
+   *
+   * @param indent Indentation of the enclosing error.
+   *
+   * @param rendered Errors that have already been written.
+   */
+  private void appendEnclosed(StringBuilder buffer, Throwable enclosing,
+                              StackTraceElement[] enclosingTrace, String indent,
+                              Set<Throwable> rendered) {
+    for (Throwable suppressed : enclosing.getSuppressed()) {
+      appendEnclosed(buffer, suppressed, enclosingTrace, "Suppressed: ", indent + "\t", rendered);
+    }
+
+    Throwable cause = enclosing.getCause();
+    if (cause != null) {
+      appendEnclosed(buffer, cause, enclosingTrace, "Caused by: ", indent, rendered);
+    }
+  }
+
+  /**
+   * Writes a cause or suppressed error with its frames.
+   *
+   * @param buffer Buffer to which the stack trace is appended.
+   *
+   * @param error Error to be written.
+   *
+   * @param enclosingTrace Stack trace of the enclosing error.
+   *
+   * @param caption Text in front of the error.
+   *
+   * @param indent Indentation of the error.
+   *
+   * @param rendered Errors that have already been written.
+   */
+  private void appendEnclosed(StringBuilder buffer, Throwable error,
+                              StackTraceElement[] enclosingTrace, String caption,
+                              String indent, Set<Throwable> rendered) {
+    if (!rendered.add(error)) {
+      buffer.append(indent).append(caption).append("[CIRCULAR REFERENCE: ")
+        .append(error).append("]\n");
+      return;
+    }
+
+    StackTraceElement[] trace = error.getStackTrace();
+    int own = trace.length - 1;
+    int other = enclosingTrace.length - 1;
+    while (own >= 0 && other >= 0 && trace[own].equals(enclosingTrace[other])) {
+      own--;
+      other--;
+    }
+    int unique = own + 1;
+
+    buffer.append(indent).append(caption).append(error).append('\n');
+    appendFrames(buffer, trace, unique, indent);
+
+    appendEnclosed(buffer, error, trace, indent, rendered);
+  }
+
+  /**
+   * Writes the frames of an error.
+   *
+   * Frames that are not written, because they are common with the enclosing
+   * error or exceed the maximum depth, are summarized in one line.
+   *
+   * @param buffer Buffer to which the stack trace is appended.
+   *
+   * @param trace Stack trace of the error.
+   *
+   * @param count Number of frames to be written.
+   *
+   * @param indent Indentation of the error.
+   */
+  private void appendFrames(StringBuilder buffer, StackTraceElement[] trace,
+                            int count, String indent) {
+    int limit = maxDepth > 0 ? Math.min(count, maxDepth) : count;
+    for (int i = 0; i < limit; i++) {
+      buffer.append(indent).append(trace[i]).append('\n');
+    }
+
+    if (limit < trace.length) {
+      buffer.append(indent).append("... ").append(trace.length - limit).append(" more\n");
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buffer = new StringBuilder(1024);
+    formatTo(buffer);
+    return buffer.toString();
+  }
+}
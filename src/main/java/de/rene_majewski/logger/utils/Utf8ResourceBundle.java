@@ -1,7 +1,10 @@
 package de.rene_majewski.logger.utils;
 
-import java.io.UnsupportedEncodingException;
-import java.util.Enumeration;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 
@@ -12,6 +15,9 @@ import java.util.ResourceBundle;
  * It removes the need for Sun's native2ascii application, you can simply have 
  * UTF-8 encoded editable .property files. 
  *  
+ * The property files are read with a UTF-8 reader, so every value is decoded 
+ * exactly once. 
+ *  
  * Use:  
  * ResourceBundle bundle = Utf8ResourceBundle.getBundle("bundle_name"); 
  *  
@@ -19,6 +25,11 @@ import java.util.ResourceBundle;
  */  
 public abstract class Utf8ResourceBundle {  
 
+  /** 
+   * Reads the property files as UTF-8 
+   */  
+  private static final ResourceBundle.Control UTF8_CONTROL = new Utf8Control();  
+
   /** 
    * Gets the unicode friendly resource bundle 
    *  
@@ -27,58 +38,27 @@ public abstract class Utf8ResourceBundle {
    * @return Unicode friendly resource bundle 
    */  
   public static final ResourceBundle getBundle(final String baseName) {  
-      return createUtf8PropertyResourceBundle(  
-              ResourceBundle.getBundle(baseName));  
+      return ResourceBundle.getBundle(baseName, UTF8_CONTROL);  
   }  
 
   /** 
-   * Creates unicode friendly {@link PropertyResourceBundle} if possible. 
-   *  
-   * @param bundle  
-   * @return Unicode friendly property resource bundle 
+   * Control that does the hard work 
    */  
-  private static ResourceBundle createUtf8PropertyResourceBundle(  
-          final ResourceBundle bundle) {  
-      if (!(bundle instanceof PropertyResourceBundle)) {  
-          return bundle;  
-      }  
-      return new Utf8PropertyResourceBundle((PropertyResourceBundle) bundle);  
-  }  
-
-  /** 
-   * Resource Bundle that does the hard work 
-   */  
-  private static class Utf8PropertyResourceBundle extends ResourceBundle {  
-
-      /** 
-       * Bundle with unicode data 
-       */  
-      private final PropertyResourceBundle bundle;  
-
-      /** 
-       * Initializing constructor 
-       *  
-       * @param bundle 
-       */  
-      private Utf8PropertyResourceBundle(final PropertyResourceBundle bundle) {  
-          this.bundle = bundle;  
-      }  
+  private static class Utf8Control extends ResourceBundle.Control {  
 
       @Override  
-      @SuppressWarnings("unchecked")  
-      public Enumeration getKeys() {  
-          return bundle.getKeys();  
-      }  
-
-      @Override  
-      protected Object handleGetObject(final String key) {  
-          final String value = bundle.getString(key);  
-          if (value == null)  
+      public ResourceBundle newBundle(final String baseName, final Locale locale,  
+              final String format, final ClassLoader loader, final boolean reload)  
+              throws IllegalAccessException, InstantiationException, IOException {  
+          if (!"java.properties".equals(format)) {  
+              return super.newBundle(baseName, locale, format, loader, reload);  
+          }  
+          final String resourceName = toResourceName(toBundleName(baseName, locale), "properties");  
+          final InputStream stream = loader.getResourceAsStream(resourceName);  
+          if (stream == null)  
               return null;  
-          try {  
-              return new String(value.getBytes("ISO-8859-1"), "UTF-8");  
-          } catch (final UnsupportedEncodingException e) {  
-              throw new RuntimeException("Encoding not supported", e);  
+          try (InputStreamReader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {  
+              return new PropertyResourceBundle(reader);  
           }  
       }  
   }  